@@ -0,0 +1,91 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one innings: a headless Match.startMatch() on a freshly built Team, the same Match replayed after reset(),
+ * the reusable Innings engine, and the InningsBatch kernel fed the same way. Run with -prof gc to see the allocation
+ * rate of each; the reset Match should allocate nothing per innings.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InningsBenchmark {
+
+    private static final int LANES = 1024;
+    private static final String[] BATTING_ORDER = new String[]{"IN001", "IN002", "IN003", "IN004"};
+
+    @Param({"4", "20"})
+    public int overs;
+
+    private int targetScore;
+    private Match reusedMatch;
+    private Innings innings;
+    private InningsBatch batch;
+
+    @Setup
+    public void setUp() {
+        targetScore = overs * 10;
+        reusedMatch = Match.getInstance(buildTeam(), Team.getInstance("Chennai"), targetScore, overs, NoOpMatchEventListener.getInstance());
+        Lineup lineup = buildTeam().getLineup();
+        innings = new Innings(lineup, targetScore, overs);
+        batch = new InningsBatch(lineup, targetScore, overs, LANES);
+    }
+
+    static Team buildTeam() {
+        Team team = Team.getInstance("Bangalore");
+        for (String playerId : BATTING_ORDER) {
+            team.addPlayer(playerId);
+        }
+        return team;
+    }
+
+    @Benchmark
+    public Match headlessMatch() {
+        Match match = Match.getInstance(buildTeam(), Team.getInstance("Chennai"), targetScore, overs, NoOpMatchEventListener.getInstance());
+        match.startMatch();
+        return match;
+    }
+
+    @Benchmark
+    public Match resetMatch() {
+        reusedMatch.reset();
+        reusedMatch.startMatch();
+        return reusedMatch;
+    }
+
+    @Benchmark
+    public int inningsLoop() {
+        innings.reset();
+        return innings.play(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LANES)
+    public int inningsBatch() {
+        batch.start(LANES, ThreadLocalRandom.current());
+        batch.run();
+        return batch.getResult(0);
+    }
+}
@@ -0,0 +1,86 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Metrics instrumentation: the same per-ball and per-innings paths in a JVM started without
+ * -Dkpl.metrics and in one started with it. The *Off scores should match SamplerBenchmark and InningsBenchmark,
+ * the *On scores show what recording costs, JFR recording not running.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private static final int OVERS = 20;
+
+    private final Player player = Player.getInstance(PlayerRegistry.getBuiltIn(), PlayerRegistry.getBuiltIn().indexOf("IN001"));
+    private Match match;
+    private Innings innings;
+
+    @Setup
+    public void setUp() {
+        match = Match.getInstance(InningsBenchmark.buildTeam(), Team.getInstance("Chennai"), OVERS * 10, OVERS, NoOpMatchEventListener.getInstance());
+        innings = new Innings(InningsBenchmark.buildTeam().getLineup(), OVERS * 10, OVERS);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int playBallOff() {
+        return player.playBall();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dkpl.metrics=true")
+    public int playBallOn() {
+        return player.playBall();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Match matchOff() {
+        match.reset();
+        match.startMatch();
+        return match;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dkpl.metrics=true")
+    public Match matchOn() {
+        match.reset();
+        match.startMatch();
+        return match;
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int inningsOff() {
+        innings.reset();
+        return innings.play(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dkpl.metrics=true")
+    public int inningsOn() {
+        innings.reset();
+        return innings.play(ThreadLocalRandom.current());
+    }
+}
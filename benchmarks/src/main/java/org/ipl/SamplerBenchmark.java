@@ -0,0 +1,90 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-ball sampling cost: the enum and Player entry points, the raw alias table fed by ThreadLocalRandom and by the
+ * seedable StreamRandom, the bulk API, and the prefix-sum plus binary search the alias table replaced, kept here as
+ * the baseline.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SamplerBenchmark {
+
+    private static final int BULK = 1024;
+    private static final int[] PROBABILITIES = new int[]{5, 30, 25, 10, 15, 1, 9, 5};      // IN001
+    private static final int[] OUTCOMES = new int[]{0, 1, 2, 3, 4, 5, 6, -1};
+
+    private final Player player = Player.getInstance(PlayerRegistry.getBuiltIn(), PlayerRegistry.getBuiltIn().indexOf("IN001"));
+    private final AliasSampler sampler = PlayerDataEnum.IN001.getSampler();
+    private final StreamRandom streamRandom = new StreamRandom(42, 0);
+    private final int[] outcomes = new int[BULK];
+
+    @Benchmark
+    public int enumPlayBall() {
+        return PlayerDataEnum.IN001.playBall();
+    }
+
+    @Benchmark
+    public int playerPlayBall() {
+        return player.playBall();
+    }
+
+    @Benchmark
+    public int aliasSample() {
+        return sampler.sample(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public int aliasSampleSeeded() {
+        return sampler.sample(streamRandom);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public int[] sampleInto() {
+        PlayerDataEnum.IN001.sampleInto(outcomes, BULK);
+        return outcomes;
+    }
+
+    @Benchmark
+    public int cumulativeSearchBaseline() {
+        int[] pds = new int[PROBABILITIES.length];
+        pds[0] = PROBABILITIES[0];
+        for (int i = 1; i < PROBABILITIES.length; i++) {
+            pds[i] = pds[i - 1] + PROBABILITIES[i];
+        }
+        int randomNum = ThreadLocalRandom.current().nextInt(1, pds[pds.length - 1] + 1);
+        int startIndex = 0;
+        int endIndex = pds.length - 1;
+        while (startIndex < endIndex) {
+            int mid = (startIndex + endIndex) / 2;
+            if (randomNum < pds[mid]) {
+                endIndex = mid;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return OUTCOMES[startIndex];
+    }
+}
@@ -0,0 +1,52 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of an exact WinProbabilitySolver answer for a chase from the first ball, and of the whole grid of targets 1 to
+ * 250 and overs 1 to @overs in one sweep.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+
+    @Param({"4", "20"})
+    public int overs;
+
+    private WinProbabilitySolver solver;
+
+    @Setup
+    public void setUp() {
+        solver = WinProbabilitySolver.getInstance(InningsBenchmark.buildTeam());
+    }
+
+    @Benchmark
+    public WinProbability solve() {
+        return solver.solve(overs * 10, overs);
+    }
+
+    @Benchmark
+    public WinProbabilitySurface sweep() {
+        return solver.sweep(250, overs);
+    }
+}
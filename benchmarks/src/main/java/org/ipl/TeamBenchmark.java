@@ -0,0 +1,38 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the batting team before a match, and of sending the openers in from it.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamBenchmark {
+
+    @Benchmark
+    public Team teamConstruction() {
+        return InningsBenchmark.buildTeam();
+    }
+
+    @Benchmark
+    public Player getOpeners() {
+        Team team = InningsBenchmark.buildTeam();
+        team.getPlayer();
+        return team.getPlayer();
+    }
+}
@@ -0,0 +1,65 @@
+package org.ipl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Innings per second of MatchSimulator on pools of 1 to N worker threads. Compare the scores across @threads to see
+ * how close to linear the engine scales on the machine running the suite.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThroughputBenchmark {
+
+    private static final int INNINGS = 200_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private MatchSimulator simulator;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        Team team = Team.getInstance("Bangalore");
+        team.addPlayer("IN001");
+        team.addPlayer("IN002");
+        team.addPlayer("IN003");
+        team.addPlayer("IN004");
+        simulator = MatchSimulator.getInstance(team, 40, 4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INNINGS)
+    public SimulationResult simulate() {
+        return simulator.simulate(INNINGS, pool);
+    }
+}
@@ -0,0 +1,97 @@
+package org.ipl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The alias table gives every outcome exactly the probability the cumulative-sum search it replaced gave it.
+ * Both samplers are enumerated over every value of their single random draw, so the comparison is exact.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+class AliasSamplerTest {
+
+    @Test
+    void builtInPlayersMatchCumulativeSumSearch() {
+        PlayerRegistry registry = PlayerRegistry.getBuiltIn();
+        for (int index = 0; index < registry.size(); index++) {
+            assertSameDistribution(registry.getFrequencies(index), registry.getSampler(index));
+        }
+    }
+
+    @Test
+    void edgeDistributionsMatchCumulativeSumSearch() {
+        int[][] cases = {{1}, {0, 3}, {5, 0, 0, 1}, {1, 1, 1, 1, 1, 1, 1, 1}, {1000, 1, 0, 7, 0, 0, 0, 2}};
+        for (int[] frequencies : cases) {
+            assertSameDistribution(frequencies, new AliasSampler(frequencies));
+        }
+    }
+
+    private static void assertSameDistribution(int[] frequencies, AliasSampler sampler) {
+        long[] expected = cumulativeSumCounts(frequencies);
+        long total = 0;
+        for (int frequency : frequencies) {
+            total += frequency;
+        }
+
+        EnumeratingRandom random = new EnumeratingRandom();
+        long[] actual = new long[frequencies.length];
+        do {
+            actual[sampler.sample(random)]++;
+        } while (random.next < random.bound);
+
+        // The alias draw ranges over columns * total values, the old search over total values.
+        long scale = random.bound / total;
+        assertEquals(random.bound, scale * total);
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] /= scale;
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * How often each index came out of the original sampler over every draw in [1, total]: the first index whose
+     * prefix sum is not below the draw.
+     */
+    private static long[] cumulativeSumCounts(int[] frequencies) {
+        int[] prefix = new int[frequencies.length];
+        prefix[0] = frequencies[0];
+        for (int i = 1; i < frequencies.length; i++) {
+            prefix[i] = prefix[i - 1] + frequencies[i];
+        }
+        long[] counts = new long[frequencies.length];
+        for (int draw = 1; draw <= prefix[prefix.length - 1]; draw++) {
+            int index = 0;
+            while (prefix[index] < draw) {
+                index++;
+            }
+            counts[index]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns 0, 1, 2, ... from nextInt, remembering the bound it is asked for.
+     */
+    private static final class EnumeratingRandom implements RandomGenerator {
+        private int next;
+        private int bound;
+
+        @Override
+        public int nextInt(int bound) {
+            this.bound = bound;
+            return this.next++;
+        }
+
+        @Override
+        public long nextLong() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.ipl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * With no tolerance the optimizer finds the best win probability over every batting order of the squad, checked by
+ * solving each permutation, including targets of 0 where an early wicket can still lose the chase.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+class BattingOrderOptimizerTest {
+
+    private static final double EPSILON = 1e-12;
+    private static final String[] SQUAD = {"IN001", "IN002", "IN003", "IN004"};
+
+    @Test
+    void matchesBruteForce() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int size = 2; size <= SQUAD.length; size++) {
+                List<String> squad = List.of(SQUAD).subList(SQUAD.length - size, SQUAD.length);
+                for (int targetScore : new int[]{0, 1, 7, 20}) {
+                    for (int overs = 1; overs <= 3; overs++) {
+                        BattingOrder order = BattingOrderOptimizer.getInstance(TestTeams.of(squad.toArray(new String[0])))
+                                .optimize(targetScore, overs, 0, pool);
+                        double best = 0;
+                        for (List<String> permutation : permutations(squad)) {
+                            best = Math.max(best, solve(permutation, targetScore, overs));
+                        }
+                        String chase = squad + " " + targetScore + "/" + overs;
+                        assertEquals(best, order.getWinProbability().getWinProbability(), EPSILON, chase);
+                        assertEquals(best, solve(order.getPlayerIds(), targetScore, overs), EPSILON, chase);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void targetOfZeroIsNotACertainWin() {
+        // IN004 is out more often than IN003, and an all out first ball loses even a target of 0.
+        BattingOrder order = BattingOrderOptimizer.getInstance(TestTeams.of("IN004", "IN003")).optimize(0, 1);
+        assertEquals(List.of("IN003", "IN004"), order.getPlayerIds());
+        assertEquals(solve(List.of("IN003", "IN004"), 0, 1), order.getWinProbability().getWinProbability(), EPSILON);
+    }
+
+    private static double solve(List<String> battingOrder, int targetScore, int overs) {
+        return WinProbabilitySolver.getInstance(TestTeams.of(battingOrder.toArray(new String[0])))
+                .solve(targetScore, overs).getWinProbability();
+    }
+
+    private static List<List<String>> permutations(List<String> players) {
+        List<List<String>> permutations = new ArrayList<>();
+        if (players.isEmpty()) {
+            permutations.add(new ArrayList<>());
+            return permutations;
+        }
+        for (String first : players) {
+            List<String> rest = new ArrayList<>(players);
+            rest.remove(first);
+            for (List<String> permutation : permutations(rest)) {
+                permutation.add(0, first);
+                permutations.add(permutation);
+            }
+        }
+        return permutations;
+    }
+}
@@ -0,0 +1,49 @@
+package org.ipl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * A seeded simulation gives the same result whatever the parallelism of the pool it runs on.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+class MatchSimulatorTest {
+
+    private static final long INNINGS = 50_000;
+
+    @Test
+    void seededRunIsIndependentOfThreadCount() {
+        MatchSimulator simulator = MatchSimulator.getInstance(TestTeams.of("IN001", "IN002", "IN003", "IN004"), 40, 4);
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(64);
+        try {
+            SimulationResult single = simulator.simulate(INNINGS, 42L, one);
+            SimulationResult parallel = simulator.simulate(INNINGS, 42L, many);
+
+            assertEquals(INNINGS, single.getInnings());
+            assertEquals(single.getWins(), parallel.getWins());
+            assertEquals(single.getTies(), parallel.getTies());
+            assertEquals(single.getLosses(), parallel.getLosses());
+            assertArrayEquals(single.getBallsRemainingDistribution(), parallel.getBallsRemainingDistribution());
+            assertArrayEquals(single.getWicketsLostDistribution(), parallel.getWicketsLostDistribution());
+            assertArrayEquals(single.getScoreDistribution().getCounts(), parallel.getScoreDistribution().getCounts());
+            for (String playerId : new String[]{"IN001", "IN002", "IN003", "IN004"}) {
+                assertEquals(single.getAverageRuns(playerId), parallel.getAverageRuns(playerId));
+                assertEquals(single.getAverageBallsFaced(playerId), parallel.getAverageBallsFaced(playerId));
+            }
+
+            assertNotEquals(single.getWins(), simulator.simulate(INNINGS, 43L, one).getWins());
+        } finally {
+            one.shutdown();
+            many.shutdown();
+        }
+    }
+}
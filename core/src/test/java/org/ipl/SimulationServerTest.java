@@ -0,0 +1,47 @@
+package org.ipl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The server answers a scenario with exactly what a seeded MatchSimulator run of the same size gives, including
+ * targets of 0 and scenarios batched together with other targets of the same batting order.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+class SimulationServerTest {
+
+    private static final long INNINGS = 20_000;
+    private static final long SEED = 11;
+
+    @Test
+    void answersMatchSimulate() throws Exception {
+        List<List<String>> orders = List.of(List.of("IN004", "IN003"), List.of("IN001", "IN002", "IN003"));
+        int[][] scenarios = {{0, 1}, {0, 2}, {1, 2}, {10, 2}, {20, 3}};
+        try (SimulationServer server = SimulationServer.start(PlayerRegistry.getBuiltIn(), 0, INNINGS, SEED, 100)) {
+            for (List<String> order : orders) {
+                List<CompletableFuture<WinProbability>> answers = new ArrayList<>();
+                for (int[] scenario : scenarios) {
+                    answers.add(server.query(order, scenario[0], scenario[1]));
+                }
+                Team team = TestTeams.of(order.toArray(new String[0]));
+                for (int i = 0; i < scenarios.length; i++) {
+                    SimulationResult expected = MatchSimulator.getInstance(team, scenarios[i][0], scenarios[i][1])
+                            .simulate(INNINGS, SEED, ForkJoinPool.commonPool());
+                    WinProbability answer = answers.get(i).get();
+                    String scenario = order + " " + scenarios[i][0] + "/" + scenarios[i][1];
+                    assertEquals(expected.getWinProbability(), answer.getWinProbability(), scenario);
+                    assertEquals(expected.getTieProbability(), answer.getTieProbability(), scenario);
+                }
+            }
+        }
+    }
+}
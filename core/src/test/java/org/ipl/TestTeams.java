@@ -0,0 +1,28 @@
+package org.ipl;
+
+/**
+ * Teams picked from the built-in registry for tests.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class TestTeams {
+
+    private TestTeams() {
+    }
+
+    /**
+     * Get a team batting in the given order
+     *
+     * @param playerIds The built-in player ids, openers first
+     * @return Team the team
+     */
+    static Team of(String... playerIds) {
+        Team team = Team.getInstance(String.join("-", playerIds), PlayerRegistry.getBuiltIn());
+        for (String playerId : playerIds) {
+            team.addPlayer(playerId);
+        }
+        return team;
+    }
+}
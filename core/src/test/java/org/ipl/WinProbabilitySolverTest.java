@@ -0,0 +1,58 @@
+package org.ipl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The exact solver, the one-pass sweep over targets and overs and the live mid-innings service all solve the same
+ * Markov chain, so they agree to rounding on every state they share.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+class WinProbabilitySolverTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    void sweepMatchesSolve() {
+        WinProbabilitySolver solver = WinProbabilitySolver.getInstance(TestTeams.of("IN001", "IN002", "IN003", "IN004"));
+        WinProbabilitySurface surface = solver.sweep(60, 5);
+        for (int overs = 1; overs <= 5; overs++) {
+            for (int targetScore = 1; targetScore <= 60; targetScore++) {
+                assertSame(solver.solve(targetScore, overs), surface.get(targetScore, overs));
+            }
+        }
+    }
+
+    @Test
+    void liveMatchesSolveAtTheStartOfAnInnings() {
+        LiveWinProbability live = LiveWinProbability.getInstance(PlayerRegistry.getBuiltIn(), 4);
+        WinProbabilitySolver solver = WinProbabilitySolver.getInstance(TestTeams.of("IN001", "IN002", "IN003", "IN004"));
+        for (int targetScore = 1; targetScore <= 40; targetScore += 13) {
+            assertSame(solver.solve(targetScore, 4),
+                    live.getWinProbability("IN001", "IN002", List.of("IN003", "IN004"), 24, targetScore));
+        }
+    }
+
+    @Test
+    void liveMatchesSolveAfterAWicket() {
+        LiveWinProbability live = LiveWinProbability.getInstance(PlayerRegistry.getBuiltIn(), 4);
+        live.getWinProbability("IN001", "IN002", List.of("IN003", "IN004"), 24, 40);
+
+        // IN001 out, IN003 in on strike, 2 overs left: the same chase as IN003 and IN002 opening from there.
+        WinProbability fromTable = live.getWinProbability("IN003", "IN002", List.of("IN004"), 12, 17);
+        assertEquals(1, live.getCacheMisses());
+        assertEquals(1, live.getCacheHits());
+        assertSame(WinProbabilitySolver.getInstance(TestTeams.of("IN003", "IN002", "IN004")).solve(17, 2), fromTable);
+    }
+
+    private static void assertSame(WinProbability expected, WinProbability actual) {
+        assertEquals(expected.getWinProbability(), actual.getWinProbability(), EPSILON);
+        assertEquals(expected.getTieProbability(), actual.getTieProbability(), EPSILON);
+    }
+}
@@ -0,0 +1,143 @@
+package org.ipl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable Walker/Vose alias table for a discrete frequency distribution. The table is built once and every draw
+ * afterwards costs a single bounded random number, a division and one array lookup, with no allocation.
+ * The table is kept in integer arithmetic scaled by the frequency total, so the probability of every index is exactly
+ * frequency[i] / sum(frequency), the same distribution as a cumulative-sum search over the raw frequencies.
+ * Thread safe :- the table is never modified after construction.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class AliasSampler {
+
+    private final int columns;                              // number of outcomes in the distribution
+    private final int frequencyTotal;                       // sum of all frequencies, the height of every column
+    private final int bound;                                // columns * frequencyTotal, range of a single draw
+    private final int[] threshold;                          // column keeps its own index while draw < threshold
+    private final int[] alias;                              // index returned when the draw falls above threshold
+
+    /**
+     * Builds the alias table.
+     *
+     * @param frequencies Non negative frequency for each outcome index. At least one must be greater than 0.
+     * @throws IllegalArgumentException if the frequencies are empty, negative, all zero or too large to scale
+     */
+    AliasSampler(int[] frequencies) {
+        if (frequencies.length == 0) {
+            throw new IllegalArgumentException("frequency distribution is empty");
+        }
+        long total = 0;
+        for (int frequency : frequencies) {
+            if (frequency < 0) {
+                throw new IllegalArgumentException("frequency distribution has a negative frequency");
+            }
+            total += frequency;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("frequency distribution has no positive frequency");
+        }
+        if (total * frequencies.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("frequency distribution is too large");
+        }
+
+        this.columns = frequencies.length;
+        this.frequencyTotal = (int) total;
+        this.bound = this.columns * this.frequencyTotal;
+        this.threshold = new int[this.columns];
+        this.alias = new int[this.columns];
+
+        // Scale every frequency by the column count so that the average column height equals the frequency total.
+        long[] scaled = new long[this.columns];
+        int[] small = new int[this.columns];
+        int[] large = new int[this.columns];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < this.columns; i++) {
+            scaled[i] = (long) frequencies[i] * this.columns;
+            if (scaled[i] < this.frequencyTotal) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // Vose: fill each short column with the excess of a tall one.
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            this.threshold[less] = (int) scaled[less];
+            this.alias[less] = more;
+            scaled[more] -= this.frequencyTotal - scaled[less];
+            if (scaled[more] < this.frequencyTotal) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Integer arithmetic leaves every remaining column exactly full.
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            this.threshold[index] = this.frequencyTotal;
+            this.alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            this.threshold[index] = this.frequencyTotal;
+            this.alias[index] = index;
+        }
+    }
+
+    /**
+     * Draw a single outcome index.
+     *
+     * @param random The random source to draw from
+     * @return int  an index into the frequency array, chosen with probability frequency[i] / sum(frequency)
+     */
+    int sample(RandomGenerator random) {
+        int draw = random.nextInt(this.bound);
+        int column = draw / this.frequencyTotal;
+        return (draw - column * this.frequencyTotal) < this.threshold[column] ? column : this.alias[column];
+    }
+
+    /**
+     * Fill the first @n slots of @outcomes with independent outcome indexes drawn from the current thread's random.
+     *
+     * @param outcomes The array to fill
+     * @param n        The number of outcomes to draw
+     */
+    void sampleInto(int[] outcomes, int n) {
+        sampleInto(outcomes, n, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Fill the first @n slots of @outcomes with independent outcome indexes.
+     *
+     * @param outcomes The array to fill
+     * @param n        The number of outcomes to draw
+     * @param random   The random source to draw from
+     */
+    void sampleInto(int[] outcomes, int n, RandomGenerator random) {
+        if (n > outcomes.length) {
+            throw new IllegalArgumentException("outcome array is shorter than the number of draws");
+        }
+        for (int i = 0; i < n; i++) {
+            outcomes[i] = sample(random);
+        }
+    }
+
+    /**
+     * Get the number of outcomes in the distribution.
+     *
+     * @return int The number of outcomes
+     */
+    int getOutcomeCount() {
+        return this.columns;
+    }
+}
@@ -0,0 +1,152 @@
+package org.ipl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only binary log of every delivery, four bytes a ball, for reanalysing matches without parsing commentary.
+ * Deliveries of an innings are collected until it ends and then appended as one frame to a reusable direct
+ * ByteBuffer; the buffer goes to the FileChannel once it is full, in one large write.
+ * <pre>
+ * int   magic 'KPLE'
+ * short version
+ * per innings:
+ *   long  innings id
+ *   short delivery count
+ *   per delivery, one int, most significant bits first:
+ *     7 bits  over, zero based
+ *     3 bits  ball in the over, 1 to 6
+ *     19 bits striker's dense id in the PlayerRegistry
+ *     3 bits  outcome index, refer to BallOutcome.java
+ * </pre>
+ * Innings ids count up from 0 unless set with setInningsId(). Read a log back with BallEventReplay.
+ * Not ThreadSafe :- one log per thread, e.g. one file per simulation worker.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class BallEventLog implements InningsObserver, Closeable {
+
+    static final int MAGIC = 0x4B504C45;                    // "KPLE"
+    static final short VERSION = 1;
+    static final int FILE_HEADER_BYTES = 6;
+    static final int FRAME_HEADER_BYTES = 10;
+    static final int MAX_OVERS = 1 << 7;
+    static final int MAX_PLAYERS = 1 << 19;
+    private static final int MIN_BATCH_BYTES = FRAME_HEADER_BYTES + 4 * MAX_OVERS * 6;      // the largest frame
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private int[] deliveries = new int[128];                // the current innings, packed
+    private int deliveryCount;
+    private long inningsId;
+
+    private BallEventLog(Path file, int batchBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(batchBytes);
+        this.buffer.putInt(MAGIC).putShort(VERSION);
+    }
+
+    /**
+     * Get a log writing to @file.
+     *
+     * @param file       The log file, created or truncated
+     * @param batchBytes The size of the buffer written to disk at once. Must be at least 3082, the largest innings.
+     * @return BallEventLog
+     * @throws IOException if the file can not be opened
+     */
+    public static BallEventLog getInstance(Path file, int batchBytes) throws IOException {
+        if (batchBytes < MIN_BATCH_BYTES) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Buffer_Size.toString());
+        }
+        return new BallEventLog(file, batchBytes);
+    }
+
+    /**
+     * Set the id the next innings is logged under; later innings count up from it.
+     *
+     * @param inningsId The innings id
+     */
+    public void setInningsId(long inningsId) {
+        this.inningsId = inningsId;
+    }
+
+    /**
+     * Pack one delivery into an int, refer to the class comment for the layout.
+     *
+     * @throws IllegalArgumentException if a field does not fit its bits
+     */
+    static int pack(int over, int ball, int playerIndex, int outcome) {
+        if (over < 0 || over >= MAX_OVERS || ball < 1 || ball > 6 || playerIndex < 0 || playerIndex >= MAX_PLAYERS
+                || outcome < 0 || outcome >= BallOutcome.COUNT) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Ball_Event.toString());
+        }
+        return over << 25 | ball << 22 | playerIndex << 3 | outcome;
+    }
+
+    @Override
+    public int getMaxOvers() {
+        return MAX_OVERS - 1;
+    }
+
+    @Override
+    public void deliveryPlayed(int over, int ball, int playerIndex, int outcome) {
+        if (this.deliveryCount == this.deliveries.length) {
+            this.deliveries = Arrays.copyOf(this.deliveries, this.deliveryCount * 2);
+        }
+        this.deliveries[this.deliveryCount++] = pack(over, ball, playerIndex, outcome);
+    }
+
+    /**
+     * Append the innings as one frame, writing the batch out first if the frame does not fit.
+     *
+     * @throws UncheckedIOException if the batch can not be written
+     */
+    @Override
+    public void inningsEnded() {
+        try {
+            if (this.buffer.remaining() < FRAME_HEADER_BYTES + 4 * this.deliveryCount) {
+                drain();
+            }
+            this.buffer.putLong(this.inningsId++).putShort((short) this.deliveryCount);
+            for (int i = 0; i < this.deliveryCount; i++) {
+                this.buffer.putInt(this.deliveries[i]);
+            }
+            this.deliveryCount = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Write out the innings logged so far and close the file. An innings still in progress is dropped.
+     *
+     * @throws IOException if the batch can not be written or the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.channel.isOpen()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            this.channel.close();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.ipl;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Per-player and per-innings statistics rebuilt from a BallEventLog file. The file is scanned once, front to back,
+ * through memory-mapped windows of up to 1 GB, so logs of billions of deliveries are read at disk speed without
+ * copying them onto the heap. Each delivery costs one int read and one counter increment.
+ * Not ThreadSafe :- built by read(), then only read.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class BallEventReplay {
+
+    private static final long MAX_WINDOW = 1L << 30;
+
+    private final PlayerRegistry registry;
+    private final long[] outcomeCounts;                     // dense id * BallOutcome.COUNT + outcome index
+    private long[] inningsRunsCounts = new long[256];       // index = runs scored in the innings
+    private long innings;
+    private long deliveries;
+
+    private BallEventReplay(PlayerRegistry registry) {
+        this.registry = registry;
+        this.outcomeCounts = new long[registry.size() * BallOutcome.COUNT];
+    }
+
+    /**
+     * Replay a log file.
+     *
+     * @param file     The log written by BallEventLog
+     * @param registry The registry the logged players were picked from
+     * @return BallEventReplay the statistics of every innings in the file
+     * @throws IOException              if the file can not be read
+     * @throws IllegalArgumentException if the file is not a valid log or names players not in @registry
+     */
+    public static BallEventReplay read(Path file, PlayerRegistry registry) throws IOException {
+        BallEventReplay replay = new BallEventReplay(registry);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, BallEventLog.FILE_HEADER_BYTES));
+            if (size < BallEventLog.FILE_HEADER_BYTES || header.getInt() != BallEventLog.MAGIC || header.getShort() != BallEventLog.VERSION) {
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Event_Log);
+            }
+            long position = BallEventLog.FILE_HEADER_BYTES;
+            while (position < size) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_WINDOW, size - position));
+                int scanned = replay.scan(window);
+                if (scanned == 0) {
+                    throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Event_Log);   // truncated frame
+                }
+                position += scanned;
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Scan the whole frames in @window.
+     *
+     * @return int the bytes scanned, up to the first frame that does not end inside the window
+     */
+    private int scan(MappedByteBuffer window) {
+        int limit = window.limit();
+        int players = this.registry.size();
+        int offset = 0;
+        while (limit - offset >= BallEventLog.FRAME_HEADER_BYTES) {
+            int count = window.getShort(offset + 8) & 0xFFFF;
+            int frameEnd = offset + BallEventLog.FRAME_HEADER_BYTES + 4 * count;
+            if (frameEnd > limit || frameEnd < 0) {
+                break;
+            }
+            int runs = 0;
+            for (int at = offset + BallEventLog.FRAME_HEADER_BYTES; at < frameEnd; at += 4) {
+                int delivery = window.getInt(at);
+                int playerIndex = (delivery >>> 3) & (BallEventLog.MAX_PLAYERS - 1);
+                if (playerIndex >= players) {
+                    throw new IllegalArgumentException(playerIndex + " " + CustomExceptionMessages.Unknown_Player);
+                }
+                int outcome = delivery & 7;
+                this.outcomeCounts[playerIndex * BallOutcome.COUNT + outcome]++;
+                runs += BallOutcome.RUNS[outcome];
+            }
+            if (runs >= this.inningsRunsCounts.length) {
+                this.inningsRunsCounts = Arrays.copyOf(this.inningsRunsCounts, Math.max(runs + 1, this.inningsRunsCounts.length * 2));
+            }
+            this.inningsRunsCounts[runs]++;
+            this.innings++;
+            this.deliveries += count;
+            offset = frameEnd;
+        }
+        return offset;
+    }
+
+    /**
+     * Get the number of innings in the log
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the number of deliveries in the log
+     *
+     * @return long The delivery count
+     */
+    public long getDeliveries() {
+        return this.deliveries;
+    }
+
+    /**
+     * Get how many times a player had each outcome
+     *
+     * @param playerId The unique player id
+     * @return long[] a new array of counts indexed by outcome: 0 to 6 runs, then bowled out
+     */
+    public long[] getOutcomeCounts(String playerId) {
+        int offset = this.registry.indexOf(playerId) * BallOutcome.COUNT;
+        return Arrays.copyOfRange(this.outcomeCounts, offset, offset + BallOutcome.COUNT);
+    }
+
+    /**
+     * Get a player's runs over every innings in the log
+     *
+     * @param playerId The unique player id
+     * @return long The runs scored
+     */
+    public long getRuns(String playerId) {
+        long[] counts = getOutcomeCounts(playerId);
+        long runs = 0;
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            runs += counts[outcome] * BallOutcome.RUNS[outcome];
+        }
+        return runs;
+    }
+
+    /**
+     * Get a player's balls faced over every innings in the log
+     *
+     * @param playerId The unique player id
+     * @return long The balls faced
+     */
+    public long getBallsFaced(String playerId) {
+        long balls = 0;
+        for (long count : getOutcomeCounts(playerId)) {
+            balls += count;
+        }
+        return balls;
+    }
+
+    /**
+     * Get how many times a player was bowled out
+     *
+     * @param playerId The unique player id
+     * @return long The dismissals
+     */
+    public long getDismissals(String playerId) {
+        return getOutcomeCounts(playerId)[BallOutcome.OUT];
+    }
+
+    /**
+     * Get the distribution of innings totals
+     *
+     * @return long[] a new array of innings counts indexed by runs scored, up to the highest total in the log
+     */
+    public long[] getInningsRunsDistribution() {
+        int highest = this.inningsRunsCounts.length - 1;
+        while (highest > 0 && this.inningsRunsCounts[highest] == 0) {
+            highest--;
+        }
+        return Arrays.copyOf(this.inningsRunsCounts, highest + 1);
+    }
+}
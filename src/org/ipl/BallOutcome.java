@@ -0,0 +1,22 @@
+package org.ipl;
+
+/**
+ * Lookup tables for the outcome indexes drawn by a player's sampler. Index i lines up with the outcome array in
+ * PlayerDataEnum.java: indexes 0-6 are runs scored, index 7 is bowled out.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class BallOutcome {
+
+    static final int COUNT = 8;                                     // number of possible outcomes per ball
+    static final int OUT = 7;                                       // index of the bowled out outcome
+    static final int[] RUNS = new int[]{0, 1, 2, 3, 4, 5, 6, 0};    // runs added to the scoreboard per outcome
+    static final int[] VALUES = new int[]{0, 1, 2, 3, 4, 5, 6, -1}; // value returned by playBall(), -1 is bowled out
+    static final boolean[] ROTATES = new boolean[]{false, true, false, true, false, true, false, false};  // odd runs swap ends
+    static final boolean[] WICKET = new boolean[]{false, false, false, false, false, false, false, true};  // batsman is out
+
+    private BallOutcome() {
+    }
+}
@@ -0,0 +1,55 @@
+package org.ipl;
+
+import java.util.List;
+
+/**
+ * A batting order found by BattingOrderOptimizer, with its exact chances in the chase it was optimised for.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class BattingOrder {
+    private final List<String> playerIds;
+    private final WinProbability probability;
+    private final long prefixesEvaluated;
+
+    BattingOrder(List<String> playerIds, WinProbability probability, long prefixesEvaluated) {
+        this.playerIds = List.copyOf(playerIds);
+        this.probability = probability;
+        this.prefixesEvaluated = prefixesEvaluated;
+    }
+
+    /**
+     * Get the player ids in batting order, openers first with the striker at index 0
+     *
+     * @return List<String> an unmodifiable list of player ids
+     */
+    public List<String> getPlayerIds() {
+        return this.playerIds;
+    }
+
+    /**
+     * Get the exact win, tie and loss probabilities of the chase with this order
+     *
+     * @return WinProbability the probabilities
+     */
+    public WinProbability getWinProbability() {
+        return this.probability;
+    }
+
+    /**
+     * Get the number of partial batting orders the search evaluated, a measure of how much the pruning saved
+     *
+     * @return long The evaluated prefix count
+     */
+    public long getPrefixesEvaluated() {
+        return this.prefixesEvaluated;
+    }
+
+    @Override
+    public String toString() {
+        return this.playerIds + " " + this.probability;
+    }
+}
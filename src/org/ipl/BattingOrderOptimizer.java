@@ -0,0 +1,488 @@
+package org.ipl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Finds the batting order of a squad with the highest exact win probability in a chase, by branch and bound over
+ * batting order prefixes.
+ * The chase is split into levels: level m runs from the moment batting position m comes in until the next wicket,
+ * so it only involves the first m + 1 positions. Probability mass is pushed forward through a level ball by ball,
+ * the same Markov chain WinProbabilitySolver walks backwards. What a level passes on to the next is the mass at the
+ * moment of the next wicket, so the levels of a prefix are computed once and shared by every order starting with it:
+ * extending a prefix by a player costs one level, not a whole chase.
+ * A prefix's bound is the win mass it has already reached, plus the mass passed on at each wicket valued by a dynamic
+ * program over the batsman left at the crease and the set of batsmen yet to come in: the chance of winning if each
+ * next batsman could be chosen from that set knowing the balls left and the runs needed. A batting order is one such
+ * choice, made in advance, so no completion of the prefix wins more often, and in practice the bound is close to
+ * exact. The table of a set only depends on those of its subsets, so the tables are computed once per search,
+ * smallest sets first, and shared by every prefix.
+ * The search is depth first, best bound first among siblings, one fork-join task per pair of openers; the first dive
+ * usually finds the best order and the bounds drop nearly everything else. Only the prefixes on the current path keep
+ * the mass they pass on, so memory grows with the squad size, not with the number of prefixes.
+ * Set tables take 2 bytes per batsman, set, ball and run: about 440 MB for an 11 player squad chasing 160 in 20
+ * overs, where they take about 20 seconds on one core. Squads and chases that do not fit MAX_BOUND_CELLS only get
+ * tables for the sets that do, and value larger sets as if any batsman of the squad not at the crease could come in
+ * next, which is much looser.
+ * Thread safe :- the optimizer is immutable, every search keeps its own state.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class BattingOrderOptimizer {
+
+    private static final long MAX_BOUND_CELLS = 1L << 28;   // 512 MB of set tables
+    private static final int MAX_SET_PLAYERS = 16;          // larger squads only get count tables
+    private static final int ONE = 0xFFFF;                  // a bound table entry of 1, entries are rounded up
+
+    private final Lineup squad;
+    private final int players;
+
+    private BattingOrderOptimizer(Lineup squad) {
+        this.squad = squad;
+        this.players = squad.size();
+    }
+
+    /**
+     * Returns the instance of BattingOrderOptimizer class.
+     *
+     * @param squad The squad to order, players in any order. Team must have at least two players
+     * @return BattingOrderOptimizer An instance of BattingOrderOptimizer class
+     * @throws IllegalArgumentException
+     */
+    public static BattingOrderOptimizer getInstance(Team squad) throws IllegalArgumentException {
+        Lineup lineup = squad.getLineup();
+        if (lineup.size() < 2) {
+            throw new IllegalArgumentException(lineup.getTeamName() + " " + CustomExceptionMessages.Has_Less_Than_Two_Players);
+        }
+        return new BattingOrderOptimizer(lineup);
+    }
+
+    /**
+     * Find the best batting order on the common fork-join pool.
+     *
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @return BattingOrder the order with the highest win probability
+     * @throws IllegalArgumentException
+     */
+    public BattingOrder optimize(int targetScore, int overs) throws IllegalArgumentException {
+        return optimize(targetScore, overs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find the best batting order on the given fork-join pool.
+     *
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @param pool        The pool to search on
+     * @return BattingOrder the order with the highest win probability
+     * @throws IllegalArgumentException
+     */
+    public BattingOrder optimize(int targetScore, int overs, ForkJoinPool pool) throws IllegalArgumentException {
+        return optimize(targetScore, overs, 0, pool);
+    }
+
+    /**
+     * Find a batting order whose win probability is within @tolerance of the best, on the given fork-join pool.
+     * A small tolerance, such as 0.001, lets the search drop every prefix that could only improve on the best order so
+     * far by less than that.
+     *
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @param tolerance   How much lower than the best the returned win probability may be. Must not be negative.
+     * @param pool        The pool to search on
+     * @return BattingOrder an order at most @tolerance worse than the best, with its exact probabilities
+     * @throws IllegalArgumentException
+     */
+    public BattingOrder optimize(int targetScore, int overs, double tolerance, ForkJoinPool pool) throws IllegalArgumentException {
+        if (!(tolerance >= 0)) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Tolerance_Negative.toString());
+        } else if (targetScore < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Negative.toString());
+        } else if (overs <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        }
+        Search search = new Search(targetScore, overs * 6, tolerance);
+        search.run(pool);
+        List<String> playerIds = new ArrayList<>(this.players);
+        for (int position = 0; position < this.players; position++) {
+            playerIds.add(this.squad.getPlayerId(search.bestOrder[position]));
+        }
+        return new BattingOrder(playerIds, new WinProbability(search.bestWin, search.bestTie), search.evaluated.get());
+    }
+
+    /**
+     * The state of one optimisation: the chase, the bound tables and the best order found so far.
+     */
+    private final class Search {
+        private final int target;
+        private final int totalBalls;
+        private final int rows;                             // runs a level keeps as states, 0 to rows - 1
+        private final int width;                            // runs needed 0 to target
+        private final char[][][] setWin;                    // by batsman at the crease, set yet to come in
+        private final char[][] countWin;                    // by batsman at the crease, number yet to come in
+        private final double tolerance;                     // prefixes that cannot beat the best by more are dropped
+        private final AtomicLong evaluated = new AtomicLong();
+
+        private volatile double bestWin = -1;               // guarded by this for writes
+        private double bestTie;
+        private int[] bestOrder;
+
+        Search(int target, int totalBalls, double tolerance) {
+            this.target = target;
+            this.totalBalls = totalBalls;
+            this.rows = Math.max(1, target);                // a target of 0 is only checked after the first ball
+            this.width = target + 1;
+            this.tolerance = tolerance;
+            this.setWin = new char[players][players > MAX_SET_PLAYERS ? 0 : 1 << players][];
+            this.countWin = new char[players * (players - 1)][];
+        }
+
+        /**
+         * Fill the bound tables, those for one number of batsmen yet to come in in parallel once the smaller ones are
+         * done: the set tables smallest set first while they fit MAX_BOUND_CELLS, then, if some did not, the count
+         * tables.
+         */
+        private void bounds(ForkJoinPool pool) {
+            long cells = (long) (this.totalBalls + 1) * this.width;
+            long used = 0;
+            int size = 1;
+            for (; size < players - 1 && players <= MAX_SET_PLAYERS; size++) {
+                List<RecursiveAction> tasks = new ArrayList<>();
+                for (int set = 0; set < 1 << players; set++) {
+                    if (Integer.bitCount(set) != size) {
+                        continue;
+                    }
+                    for (int batsman = 0; batsman < players; batsman++) {
+                        if ((set & 1 << batsman) == 0) {
+                            int atCrease = batsman;
+                            int yetToBat = set;
+                            tasks.add(task(() -> this.setWin[atCrease][yetToBat] = creaseBound(atCrease, yetToBat,
+                                    (survivor, next) -> yetToBat == 1 << next ? null : this.setWin[survivor][yetToBat & ~(1 << next)])));
+                        }
+                    }
+                }
+                used += tasks.size() * cells;
+                if (used > MAX_BOUND_CELLS) {
+                    break;
+                }
+                invokeAll(pool, tasks);
+            }
+            if (size == players - 1) {
+                return;
+            }
+
+            long everyone = (1L << players) - 1;
+            for (int yetToBat = 1; yetToBat < players - 1; yetToBat++) {
+                List<RecursiveAction> tasks = new ArrayList<>();
+                for (int batsman = 0; batsman < players; batsman++) {
+                    int atCrease = batsman;
+                    int wickets = yetToBat;
+                    tasks.add(task(() -> this.countWin[atCrease * (players - 1) + wickets] = creaseBound(atCrease,
+                            everyone & ~(1L << atCrease),
+                            (survivor, next) -> wickets == 1 ? null : this.countWin[survivor * (players - 1) + wickets - 1])));
+                }
+                invokeAll(pool, tasks);
+            }
+        }
+
+        /**
+         * Win probability just after a wicket that leaves @atCrease in, when the next batsman may be chosen from
+         * @candidates knowing the balls left and the runs needed, and @afterWicket(survivor, next) gives the table
+         * after the wicket that follows, null when that one is all out.
+         * The new batsman takes strike unless the wicket fell off the last ball of an over, which with whole overs is
+         * when the balls left are a multiple of 6.
+         *
+         * @return char[] (balls left * width + runs needed), rounded up to a multiple of 1/65535
+         */
+        private char[] creaseBound(int atCrease, long candidates, BiFunction<Integer, Integer, char[]> afterWicket) {
+            char[] table = new char[(this.totalBalls + 1) * this.width];
+            // (runs needed + 6) * 2 + 1 when the new batsman is on strike: 6 runs more than needed is still a win
+            double[] previous = new double[2 * (this.width + 6)];
+            double[] current = new double[2 * (this.width + 6)];
+            for (long batsmen = candidates; batsmen != 0; batsmen &= batsmen - 1) {
+                int next = Long.numberOfTrailingZeros(batsmen);
+                char[][] after = {afterWicket.apply(next, next), afterWicket.apply(atCrease, next)};    // by side on strike
+                double[][] probabilities = {squad.getOutcomeProbabilities(atCrease), squad.getOutcomeProbabilities(next)};
+                Arrays.fill(previous, 0);
+                Arrays.fill(previous, 0, 14, 1);            // no balls left, nothing needed
+                Arrays.fill(current, 0, 14, 1);
+                for (int balls = 1; balls <= this.totalBalls; balls++) {
+                    boolean overEnds = (balls - 1) % 6 == 0;
+                    int row = (balls - 1) * this.width;
+                    for (int side = 0; side < 2; side++) {
+                        double[] q = probabilities[side];
+                        char[] afterOut = after[side];
+                        double out = q[BallOutcome.OUT] / ONE;
+                        int even = overEnds ? 1 - side : side;  // side on strike after an even number of runs
+                        int odd = 1 - even;
+                        for (int needed = 1; needed <= this.target; needed++) {
+                            int at = (needed + 6) * 2;
+                            double p = q[0] * previous[at + even] + q[1] * previous[at - 2 + odd]
+                                    + q[2] * previous[at - 4 + even] + q[3] * previous[at - 6 + odd]
+                                    + q[4] * previous[at - 8 + even] + q[5] * previous[at - 10 + odd]
+                                    + q[6] * previous[at - 12 + even];
+                            if (afterOut != null) {
+                                p += out * afterOut[row + needed];
+                            }
+                            current[at + side] = p;
+                        }
+                    }
+                    int entry = balls % 6 == 0 ? 0 : 1;
+                    for (int needed = 1; needed <= this.target; needed++) {
+                        int cell = balls * this.width + needed;
+                        char win = (char) Math.min(ONE, Math.ceil(current[(needed + 6) * 2 + entry] * ONE));
+                        table[cell] = (char) Math.max(table[cell], win);
+                    }
+                    double[] swap = previous;
+                    previous = current;
+                    current = swap;
+                }
+            }
+            for (int balls = 0; balls <= this.totalBalls; balls++) {
+                table[balls * this.width] = ONE;            // nothing needed
+            }
+            return table;
+        }
+
+        private RecursiveAction task(Runnable work) {
+            return new RecursiveAction() {
+                static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    work.run();
+                }
+            };
+        }
+
+        private void invokeAll(ForkJoinPool pool, List<? extends ForkJoinTask<?>> tasks) {
+            pool.invoke(task(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+
+        /**
+         * Bound on the chance of winning from a wicket that leaves @atCrease in, with the @count batsmen of @yetToBat
+         * to come in: the set table when there is one, otherwise the count table.
+         */
+        private double bound(int atCrease, int yetToBat, int count, int ballsLeft, int runsNeeded) {
+            char[] table = players > MAX_SET_PLAYERS ? null : this.setWin[atCrease][yetToBat];
+            if (table == null) {
+                table = this.countWin[atCrease * (players - 1) + count];
+            }
+            return (double) table[ballsLeft * this.width + runsNeeded] / ONE;
+        }
+
+        /**
+         * Whether no completion of a prefix with @bound can beat the best order so far by more than the tolerance
+         */
+        boolean hopeless(double bound) {
+            return bound <= this.bestWin + this.tolerance;
+        }
+
+        synchronized void offer(int[] order, double win, double tie) {
+            if (win > this.bestWin) {
+                this.bestOrder = order.clone();
+                this.bestWin = win;
+                this.bestTie = tie;
+            }
+        }
+
+        void run(ForkJoinPool pool) {
+            bounds(pool);
+
+            // Openers: every ordered pair, the first on strike.
+            List<Prefix> openers = new ArrayList<>(players * (players - 1));
+            for (int striker = 0; striker < players; striker++) {
+                for (int nonStriker = 0; nonStriker < players; nonStriker++) {
+                    if (striker != nonStriker) {
+                        openers.add(level(new int[]{striker, nonStriker}, null, false));
+                    }
+                }
+            }
+            openers.sort((a, b) -> Double.compare(b.bound, a.bound));
+            List<BranchTask> tasks = new ArrayList<>(openers.size());
+            for (Prefix openingPair : openers) {
+                tasks.add(new BranchTask(openingPair));
+            }
+            invokeAll(pool, tasks);
+        }
+
+        /**
+         * Search the completions of @parent, whose mass passed on is kept, depth first. The children are bounded
+         * without keeping theirs; a child's level is worked out again, keeping it, only when the child is expanded.
+         */
+        void search(Prefix parent) {
+            boolean[] used = new boolean[players];
+            for (int position = 0; position < parent.length; position++) {
+                used[parent.order[position]] = true;
+            }
+            List<Prefix> children = new ArrayList<>(players - parent.length);
+            for (int player = 0; player < players; player++) {
+                if (!used[player]) {
+                    int[] order = Arrays.copyOf(parent.order, parent.length + 1);
+                    order[parent.length] = player;
+                    children.add(level(order, parent, false));
+                }
+            }
+            children.sort((a, b) -> Double.compare(b.bound, a.bound));
+            for (Prefix child : children) {
+                if (hopeless(child.bound)) {
+                    break;                                  // sorted: no later sibling can do better
+                }
+                if (child.length == players) {
+                    offer(child.order, child.win, child.tie);
+                } else {
+                    search(level(child.order, parent, true));
+                }
+            }
+        }
+
+        /**
+         * Push the mass through the level of the last position in @order: openers from the first ball when @parent is
+         * null, otherwise from the wickets @parent passed on.
+         * States of level m are (runs, other, side): the batsman at position m and one earlier batsman @other are at
+         * the crease, position m on strike when side is 1. Runs at or above the target have been absorbed as wins.
+         * The mass passed on is only kept when @keep, to search the prefix's own children.
+         */
+        Prefix level(int[] order, Prefix parent, boolean keep) {
+            this.evaluated.incrementAndGet();
+            int m = order.length - 1;
+            int states = 2 * m;
+            int nextStates = 2 * (m + 1);
+            boolean lastBatsman = m == players - 1;
+            double[] outflow = lastBatsman || !keep ? null : new double[this.totalBalls * this.rows * nextStates];
+            double[] current = new double[this.rows * states];
+            double[] next = new double[this.rows * states];
+            double win = parent == null ? 0 : parent.win;
+            double tie = parent == null ? 0 : parent.tie;
+            double passedOn = 0;                            // bound on the wins of the mass passed on
+            if (parent == null) {
+                current[0] = 1;                             // first ball, no runs, the other opener (position 0) on strike
+            }
+
+            int notIn = (1 << players) - 1;                 // batsmen yet to come in, if set tables are kept
+            for (int player : order) {
+                notIn &= ~(1 << player);
+            }
+            for (int ball = 0; ball < this.totalBalls; ball++) {
+                if (parent != null) {
+                    int offset = ball * this.rows * states;
+                    for (int i = 0; i < current.length; i++) {
+                        current[i] += parent.outflow[offset + i];
+                    }
+                }
+                Arrays.fill(next, 0);
+                boolean overEnds = (ball + 1) % 6 == 0;
+                boolean lastBall = ball + 1 == this.totalBalls;
+
+                for (int runs = 0; runs < this.rows; runs++) {
+                    for (int state = 0; state < states; state++) {
+                        double p = current[runs * states + state];
+                        if (p == 0) {
+                            continue;
+                        }
+                        int other = state >> 1;
+                        boolean newOnStrike = (state & 1) == 1;
+                        double[] probabilities = squad.getOutcomeProbabilities(order[newOnStrike ? m : other]);
+
+                        for (int outcome = 0; outcome < BallOutcome.OUT; outcome++) {
+                            double q = probabilities[outcome];
+                            if (q == 0) {
+                                continue;
+                            }
+                            int scored = runs + BallOutcome.RUNS[outcome];
+                            if (scored >= this.target) {
+                                win += p * q;
+                            } else if (lastBall) {
+                                if (scored == this.target - 1) {
+                                    tie += p * q;
+                                }
+                            } else {
+                                boolean rotate = ((outcome & 1) == 1) != overEnds;
+                                next[scored * states + (other << 1) + ((newOnStrike != rotate) ? 1 : 0)] += p * q;
+                            }
+                        }
+
+                        double q = probabilities[BallOutcome.OUT];
+                        if (q == 0 || lastBatsman) {
+                            continue;                       // all out is a loss
+                        }
+                        if (runs >= this.target) {
+                            win += p * q;                   // a target of 0, checked after the wicket
+                            continue;
+                        }
+                        if (lastBall) {
+                            if (runs == this.target - 1) {
+                                tie += p * q;
+                            }
+                            continue;
+                        }
+                        // Position m + 1 comes in at the dismissed batsman's end and takes strike.
+                        int survivor = newOnStrike ? other : m;
+                        if (outflow != null) {
+                            outflow[((ball + 1) * this.rows + runs) * nextStates + (survivor << 1) + (overEnds ? 0 : 1)] += p * q;
+                        }
+                        passedOn += p * q * bound(order[survivor], notIn, players - 1 - m, this.totalBalls - ball - 1, this.target - runs);
+                    }
+                }
+                double[] swap = current;
+                current = next;
+                next = swap;
+            }
+            return new Prefix(order, win, tie, outflow, win + passedOn);
+        }
+
+        /**
+         * Searches the completions of one pair of openers.
+         */
+        private final class BranchTask extends RecursiveAction {
+            static final long serialVersionUID = 1L;
+
+            private final Prefix openers;
+
+            BranchTask(Prefix openers) {
+                this.openers = openers;
+            }
+
+            @Override
+            protected void compute() {
+                if (hopeless(this.openers.bound)) {
+                    return;
+                } else if (this.openers.length == players) {
+                    offer(this.openers.order, this.openers.win, this.openers.tie);
+                } else {
+                    search(level(this.openers.order, null, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * A batting order prefix with the result of its last level.
+     */
+    private static final class Prefix {
+        final int[] order;                                  // squad indexes by batting position
+        final int length;
+        final double win;                                   // mass that has reached the target
+        final double tie;                                   // mass that ended one run short
+        final double[] outflow;                             // ball * rows * states + runs * states + state, null at the last position or if not kept
+        final double bound;                                 // no completion wins more often
+
+        Prefix(int[] order, double win, double tie, double[] outflow, double bound) {
+            this.order = order;
+            this.length = order.length;
+            this.win = win;
+            this.tie = tie;
+            this.outflow = outflow;
+            this.bound = bound;
+        }
+    }
+}
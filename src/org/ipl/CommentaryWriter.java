@@ -0,0 +1,249 @@
+package org.ipl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * High volume commentary output to disk. Text is UTF-8 encoded straight into a reusable direct ByteBuffer, and a
+ * buffer only goes to the FileChannel once it is full, in one large write. The buffers are a fixed set of stripes, a
+ * power of two of at least two per processor, each thread writing to the stripe its thread id maps to. Threads only
+ * wait on each other while encoding when they share a stripe; the channel lock is taken once per batch. Direct memory
+ * stays at stripes * flushBytes however many threads come and go.
+ * Each write() lands in the file in one piece, so a whole innings passed in one call is never interleaved with
+ * another thread's lines. Files are rotated between writes once they reach the rotation size, so one write() never
+ * spans two files: the first file is the given path, later ones get a .1, .2, ... suffix.
+ * Thread safe :- write(), flush() and close() may be called from any number of threads. close() flushes every stripe;
+ * later writes fail.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CommentaryWriter implements Closeable {
+
+    private static final int MAX_BYTES_PER_CHAR = 3;        // UTF-8 bytes per UTF-16 char, surrogate pairs take 4 per 2
+
+    private final Path file;
+    private final int flushBytes;
+    private final long rotateBytes;
+    private final Object channelLock = new Object();
+    private final ByteBuffer[] stripes;                     // each guarded by itself, taken before channelLock
+
+    private FileChannel channel;                            // guarded by channelLock
+    private long fileBytes;                                 // bytes in the current file, guarded by channelLock
+    private int fileIndex;                                  // rotation count, guarded by channelLock
+    private boolean closed;                                 // guarded by channelLock
+
+    private CommentaryWriter(Path file, int flushBytes, long rotateBytes) throws IOException {
+        this.file = file;
+        this.flushBytes = flushBytes;
+        this.rotateBytes = rotateBytes;
+        this.stripes = new ByteBuffer[Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = ByteBuffer.allocateDirect(flushBytes);
+        }
+        this.channel = open(file);
+    }
+
+    /**
+     * Get a writer appending to @file.
+     *
+     * @param file        The first commentary file, created or truncated
+     * @param flushBytes  The size of each stripe's buffer, the batch written to disk at once. Must be at least 64.
+     * @param rotateBytes The size after which the writer moves on to the next file
+     * @return CommentaryWriter
+     * @throws IOException if the file can not be opened
+     */
+    public static CommentaryWriter getInstance(Path file, int flushBytes, long rotateBytes) throws IOException {
+        if (flushBytes < 64 || rotateBytes <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Buffer_Size.toString());
+        }
+        return new CommentaryWriter(file, flushBytes, rotateBytes);
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * The stripe of the calling thread
+     */
+    private ByteBuffer stripe() {
+        long id = Thread.currentThread().getId();
+        return this.stripes[(int) (id ^ (id >>> 32)) & (this.stripes.length - 1)];
+    }
+
+    /**
+     * Append text to the calling thread's stripe, writing the stripe out first if the text might not fit.
+     *
+     * @param text The text, written to the file in one piece
+     * @throws IOException if a batch can not be written
+     */
+    public void write(CharSequence text) throws IOException {
+        ByteBuffer buffer = stripe();
+        synchronized (buffer) {
+            synchronized (this.channelLock) {
+                if (this.closed) {
+                    throw new IOException(CustomExceptionMessages.Writer_Is_Closed.toString());
+                }
+            }
+            write(text, buffer);
+        }
+    }
+
+    private void write(CharSequence text, ByteBuffer buffer) throws IOException {
+        int length = text.length();
+        if ((long) length * MAX_BYTES_PER_CHAR > buffer.remaining()) {
+            drain(buffer);
+        }
+        if ((long) length * MAX_BYTES_PER_CHAR <= buffer.remaining()) {
+            encode(text, 0, length, buffer);
+            return;
+        }
+
+        // Larger than a whole batch: stream it in chunks while holding the lock, so it stays contiguous in the file.
+        synchronized (this.channelLock) {
+            int start = 0;
+            while (start < length) {
+                int end = Math.min(length, start + buffer.remaining() / MAX_BYTES_PER_CHAR);
+                if (end < length && Character.isHighSurrogate(text.charAt(end - 1))) {
+                    end--;
+                }
+                encode(text, start, end, buffer);
+                writeLocked(buffer);
+                start = end;
+            }
+            rotateLocked();
+        }
+    }
+
+    /**
+     * Write out the calling thread's stripe, with what other threads on the same stripe wrote.
+     *
+     * @throws IOException if the batch can not be written
+     */
+    public void flush() throws IOException {
+        ByteBuffer buffer = stripe();
+        synchronized (buffer) {
+            drain(buffer);
+        }
+    }
+
+    /**
+     * Write out every stripe and close the current file.
+     *
+     * @throws IOException if a batch can not be written or the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        close(0);
+    }
+
+    /**
+     * Take the lock of every stripe from @index on, so no write can slip into a stripe already written out, then
+     * write them all out and close the file.
+     */
+    private void close(int index) throws IOException {
+        if (index < this.stripes.length) {
+            synchronized (this.stripes[index]) {
+                close(index + 1);
+            }
+            return;
+        }
+        synchronized (this.channelLock) {
+            if (this.closed) {
+                return;
+            }
+            try {
+                for (ByteBuffer buffer : this.stripes) {
+                    if (buffer.position() > 0) {
+                        writeLocked(buffer);
+                    }
+                }
+            } finally {
+                this.closed = true;
+                this.channel.close();
+            }
+        }
+    }
+
+    private void drain(ByteBuffer buffer) throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        synchronized (this.channelLock) {
+            writeLocked(buffer);
+            rotateLocked();
+        }
+    }
+
+    private void writeLocked(ByteBuffer buffer) throws IOException {
+        if (this.closed) {
+            throw new IOException(CustomExceptionMessages.Writer_Is_Closed.toString());
+        }
+        buffer.flip();
+        this.fileBytes += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Move on to the next file once the current one has reached the rotation size. Called once a whole write() or
+     * batch is out, never between the chunks of one write().
+     */
+    private void rotateLocked() throws IOException {
+        if (this.fileBytes >= this.rotateBytes) {
+            this.channel.close();
+            this.fileIndex++;
+            this.channel = open(this.file.resolveSibling(this.file.getFileName() + "." + this.fileIndex));
+            this.fileBytes = 0;
+        }
+    }
+
+    /**
+     * UTF-8 encode chars [start, end) of @text into @buffer, which must have room for 3 bytes per char.
+     */
+    private static void encode(CharSequence text, int start, int end, ByteBuffer buffer) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');                     // unpaired surrogate, as String.getBytes() does
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Write @text, rethrowing an I/O failure unchecked, for callers that can not throw IOException.
+     *
+     * @param text The text
+     */
+    void writeUnchecked(CharSequence text) {
+        try {
+            write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.ipl;
+
+/**
+ * Listener that only counts events, for checking headless runs without reading commentary.
+ * Counters keep growing across matches until reset() is called.
+ * Not ThreadSafe :- use one instance per thread.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CountingMatchEventListener implements MatchEventListener {
+    private long overs;
+    private long balls;
+    private long runs;
+    private long wickets;
+    private long wins;
+    private long ties;
+    private long losses;
+    private long matches;
+
+    private CountingMatchEventListener() {
+    }
+
+    /**
+     * Get a new listener with all counters at zero
+     *
+     * @return CountingMatchEventListener
+     */
+    public static CountingMatchEventListener getInstance() {
+        return new CountingMatchEventListener();
+    }
+
+    @Override
+    public void overStarted(int oversLeft, int runsToWin) {
+        this.overs++;
+    }
+
+    @Override
+    public void ballPlayed(int over, int ball, String playerName, int runs) {
+        this.balls++;
+        this.runs += runs;
+    }
+
+    @Override
+    public void wicketFell(int over, int ball, String playerName) {
+        this.balls++;
+        this.wickets++;
+    }
+
+    @Override
+    public void matchWon(String teamName, int wickets, int ballsRemaining) {
+        this.wins++;
+    }
+
+    @Override
+    public void allOut(String teamName, int runsShort) {
+        this.losses++;
+    }
+
+    @Override
+    public void oversCompleted(String teamName, int runsShort) {
+        this.losses++;
+    }
+
+    @Override
+    public void matchTied() {
+        this.ties++;
+    }
+
+    @Override
+    public void batsmanSummary(String playerName, int runs, int balls, boolean notOut) {
+    }
+
+    @Override
+    public void matchEnded() {
+        this.matches++;
+    }
+
+    /**
+     * Set every counter back to zero.
+     */
+    public void reset() {
+        this.overs = 0;
+        this.balls = 0;
+        this.runs = 0;
+        this.wickets = 0;
+        this.wins = 0;
+        this.ties = 0;
+        this.losses = 0;
+        this.matches = 0;
+    }
+
+    /**
+     * Get the number of overs started
+     *
+     * @return long The over count
+     */
+    public long getOvers() {
+        return this.overs;
+    }
+
+    /**
+     * Get the number of deliveries, wickets included
+     *
+     * @return long The ball count
+     */
+    public long getBalls() {
+        return this.balls;
+    }
+
+    /**
+     * Get the total runs scored
+     *
+     * @return long The run count
+     */
+    public long getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Get the number of wickets fallen
+     *
+     * @return long The wicket count
+     */
+    public long getWickets() {
+        return this.wickets;
+    }
+
+    /**
+     * Get the number of matches won by the batting team
+     *
+     * @return long The win count
+     */
+    public long getWins() {
+        return this.wins;
+    }
+
+    /**
+     * Get the number of tied matches
+     *
+     * @return long The tie count
+     */
+    public long getTies() {
+        return this.ties;
+    }
+
+    /**
+     * Get the number of matches lost by the batting team
+     *
+     * @return long The loss count
+     */
+    public long getLosses() {
+        return this.losses;
+    }
+
+    /**
+     * Get the number of matches ended
+     *
+     * @return long The match count
+     */
+    public long getMatches() {
+        return this.matches;
+    }
+}
@@ -0,0 +1,17 @@
+package org.ipl;
+
+/**
+ * Enum constant for exception messages used inside the org.ipl package
+ */
+enum CustomExceptionMessages {
+    Has_No_Player, Target_Score_Negative, No_Match_With_Zero_Overs, Error_Finding_Random,
+    Has_Less_Than_Two_Players, Innings_Count_Negative, Not_In_Batting_Order, Unknown_Player, Duplicate_Player,
+    Invalid_Player_Data, Invalid_Player_File, Registry_Is_Read_Only,
+    Invalid_Buffer_Size, Writer_Is_Closed, Has_Less_Than_Two_Teams, Simulation_Count_Not_Positive,
+    Tournament_Already_Started, Invalid_Ball_Event, Invalid_Event_Log, Invalid_Cache_Size, Balls_Left_Negative,
+    Tolerance_Negative, Target_Score_Not_Positive, Invalid_Precision, Invalid_Confidence,
+    Invalid_Sampling_Mode, Invalid_Innings_Store, Not_Traceable, Overs_Out_Of_Range,
+    Invalid_Quantile, Invalid_Worker_Count, Invalid_Worker_Message, Worker_Failed,
+    Invalid_Query, Server_Is_Closed, Players_Out_Of_Range
+}
+
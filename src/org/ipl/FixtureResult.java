@@ -0,0 +1,155 @@
+package org.ipl;
+
+/**
+ * Aggregate of one tournament fixture simulated many times: the first innings bats out its overs, the second chases
+ * one more than the first innings scored.
+ * Not ThreadSafe :- filled in by the task simulating the fixture, then only read.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class FixtureResult {
+    static final int TIE = -1;                              // getWinner() when both sides won as many matches
+
+    private final int battingFirst;                         // team index
+    private final int chasing;                              // team index
+    private long battingFirstWins;
+    private long chasingWins;
+    private long ties;
+    private long firstInningsRuns;
+    private long firstInningsBalls;
+    private long secondInningsRuns;
+    private long secondInningsBalls;
+
+    FixtureResult(int battingFirst, int chasing) {
+        this.battingFirst = battingFirst;
+        this.chasing = chasing;
+    }
+
+    /**
+     * Record one simulated match
+     *
+     * @param first  The first innings, played out without a target
+     * @param second The chase of the first innings score plus one
+     */
+    void record(Innings first, Innings second) {
+        this.firstInningsRuns += first.getCurrentTeamScore();
+        this.firstInningsBalls += ballsForRunRate(first);
+        this.secondInningsRuns += second.getCurrentTeamScore();
+        this.secondInningsBalls += ballsForRunRate(second);
+        switch (second.getResult()) {
+            case Innings.WON:
+                this.chasingWins++;
+                break;
+            case Innings.TIED:
+                this.ties++;
+                break;
+            default:
+                this.battingFirstWins++;
+        }
+    }
+
+    /**
+     * A side bowled out is charged its full quota of overs.
+     */
+    private static int ballsForRunRate(Innings innings) {
+        boolean allOut = innings.getWickets() == innings.getLineup().size() - 1;
+        return allOut ? innings.getBallsBowled() + innings.getBallsRemaining() : innings.getBallsBowled();
+    }
+
+    /**
+     * Get the team that bats first
+     *
+     * @return int The team index
+     */
+    int getBattingFirst() {
+        return this.battingFirst;
+    }
+
+    /**
+     * Get the team that chases
+     *
+     * @return int The team index
+     */
+    int getChasing() {
+        return this.chasing;
+    }
+
+    /**
+     * Get the winner of the fixture, the team that won more of the simulated matches
+     *
+     * @return int The team index, or TIE
+     */
+    int getWinner() {
+        if (this.battingFirstWins > this.chasingWins) {
+            return this.battingFirst;
+        } else if (this.chasingWins > this.battingFirstWins) {
+            return this.chasing;
+        }
+        return TIE;
+    }
+
+    /**
+     * Get the number of matches the side batting first won
+     *
+     * @return long The wins
+     */
+    long getBattingFirstWins() {
+        return this.battingFirstWins;
+    }
+
+    /**
+     * Get the number of matches the chasing side won
+     *
+     * @return long The wins
+     */
+    long getChasingWins() {
+        return this.chasingWins;
+    }
+
+    /**
+     * Get the number of tied matches
+     *
+     * @return long The ties
+     */
+    long getTies() {
+        return this.ties;
+    }
+
+    /**
+     * Get the runs scored in every first innings
+     *
+     * @return long The total runs
+     */
+    long getFirstInningsRuns() {
+        return this.firstInningsRuns;
+    }
+
+    /**
+     * Get the balls of every first innings, a side bowled out charged its full overs
+     *
+     * @return long The total balls
+     */
+    long getFirstInningsBalls() {
+        return this.firstInningsBalls;
+    }
+
+    /**
+     * Get the runs scored in every chase
+     *
+     * @return long The total runs
+     */
+    long getSecondInningsRuns() {
+        return this.secondInningsRuns;
+    }
+
+    /**
+     * Get the balls of every chase, a side bowled out charged its full overs
+     *
+     * @return long The total balls
+     */
+    long getSecondInningsBalls() {
+        return this.secondInningsBalls;
+    }
+}
@@ -0,0 +1,297 @@
+package org.ipl;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless, reusable innings engine. Plays a chase with the same rules as Match.startMatch() but keeps the whole
+ * state in primitive fields indexed by batting position, prints nothing and leaves the Team untouched.
+ * Batsmen are tracked as striker/non-striker positions: odd runs and the end of an over swap them, and a new batsman
+ * takes the dismissed batsman's end and the strike.
+ * Not ThreadSafe :- one instance per worker thread, call reset() before every innings.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class Innings {
+
+    static final int WON = 0;
+    static final int TIED = 1;
+    static final int LOST = 2;
+
+    private final Lineup lineup;
+    private int targetScore;
+    private final int totalBalls;
+    private final int[] runScored;                          // runs per batting position
+    private final int[] ballsPlayedCount;                   // balls faced per batting position
+
+    private int currentTeamScore;
+    private int wickets;
+    private int ballsBowled;
+    private int striker;                                    // batting position on strike
+    private int nonStriker;                                 // batting position at the other end
+    private int nextBatsman;                                // batting position of the next man in
+    private int result;
+    private InningsObserver observer;                       // null when no one is watching
+
+    Innings(Lineup lineup, int targetScore, int overs) {
+        this.lineup = lineup;
+        this.targetScore = targetScore;
+        this.totalBalls = overs * 6;
+        this.runScored = new int[lineup.size()];
+        this.ballsPlayedCount = new int[lineup.size()];
+        reset();
+    }
+
+    /**
+     * Restore the state to the first ball of the innings with the openers at the crease, chasing a new target.
+     *
+     * @param targetScore The target score, Integer.MAX_VALUE to bat out the overs without a target
+     */
+    void reset(int targetScore) {
+        this.targetScore = targetScore;
+        reset();
+    }
+
+    /**
+     * Restore the state to the first ball of the innings with the openers at the crease.
+     */
+    void reset() {
+        this.currentTeamScore = 0;
+        this.wickets = 0;
+        this.ballsBowled = 0;
+        this.striker = 0;
+        this.nonStriker = 1;
+        this.nextBatsman = 2;
+        this.result = -1;
+        for (int i = 0; i < this.runScored.length; i++) {
+            this.runScored[i] = 0;
+            this.ballsPlayedCount[i] = 0;
+        }
+    }
+
+    /**
+     * Copy the state of the innings into an immutable snapshot.
+     *
+     * @return InningsSnapshot the state at the current ball
+     */
+    InningsSnapshot snapshot() {
+        return new InningsSnapshot(this.lineup, this.targetScore, this.totalBalls / 6, this.currentTeamScore, this.wickets,
+                this.ballsBowled, this.striker, this.nonStriker, this.nextBatsman, this.result, this.runScored.clone(),
+                this.ballsPlayedCount.clone());
+    }
+
+    /**
+     * Restore the state saved in @snapshot, taken from an innings of the same lineup, target and overs. Costs one
+     * copy per batting position, however far into the innings the snapshot was taken.
+     *
+     * @param snapshot The state to continue from
+     */
+    void restore(InningsSnapshot snapshot) {
+        this.currentTeamScore = snapshot.currentTeamScore;
+        this.wickets = snapshot.wickets;
+        this.ballsBowled = snapshot.ballsBowled;
+        this.striker = snapshot.striker;
+        this.nonStriker = snapshot.nonStriker;
+        this.nextBatsman = snapshot.nextBatsman;
+        this.result = snapshot.result;
+        System.arraycopy(snapshot.runScored, 0, this.runScored, 0, this.runScored.length);
+        System.arraycopy(snapshot.ballsPlayedCount, 0, this.ballsPlayedCount, 0, this.ballsPlayedCount.length);
+    }
+
+    /**
+     * Report every delivery to @observer from now on
+     *
+     * @param observer The observer, null to stop reporting
+     * @throws IllegalArgumentException if the innings has more overs than the observer can record
+     */
+    void setObserver(InningsObserver observer) {
+        if (observer != null && this.totalBalls / 6 > observer.getMaxOvers()) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Overs_Out_Of_Range.toString());
+        }
+        this.observer = observer;
+    }
+
+    /**
+     * Play the innings from the current state until it has ended.
+     *
+     * @param random The random source for ball outcomes
+     * @return int WON, TIED or LOST
+     */
+    int play(RandomGenerator random) {
+        if (Metrics.ENABLED) {
+            return playRecorded(random);
+        }
+        while (this.result < 0) {
+            playBall(this.lineup.getSampler(this.striker).sample(random));
+        }
+        return this.result;
+    }
+
+    /**
+     * Same as play(), recording the innings in Metrics and every draw as a sampler event.
+     */
+    private int playRecorded(RandomGenerator random) {
+        long start = System.nanoTime();
+        int balls = this.ballsBowled;
+        int fallen = this.wickets;
+        while (this.result < 0) {
+            playBall(Metrics.sample(this.lineup.getSampler(this.striker), this.lineup.getPlayerIndex(this.striker), random));
+        }
+        Metrics.inningsPlayed(this.ballsBowled - balls, this.wickets - fallen, System.nanoTime() - start);
+        return this.result;
+    }
+
+    /**
+     * Apply one delivery to the state.
+     *
+     * @param outcome The outcome index drawn for the striker, refer to BallOutcome.java
+     */
+    void playBall(int outcome) {
+        if (this.observer != null) {
+            this.observer.deliveryPlayed(this.ballsBowled / 6, this.ballsBowled % 6 + 1, this.lineup.getPlayerIndex(this.striker), outcome);
+        }
+        this.ballsPlayedCount[this.striker]++;
+        this.ballsBowled++;
+
+        if (outcome == BallOutcome.OUT) {
+            this.wickets++;
+            if (this.nextBatsman == this.runScored.length) {
+                this.result = LOST;                         // no players left
+                if (this.observer != null) {
+                    this.observer.inningsEnded();
+                }
+                return;
+            }
+            this.striker = this.nextBatsman++;
+        } else {
+            int runs = BallOutcome.RUNS[outcome];
+            this.runScored[this.striker] += runs;
+            this.currentTeamScore += runs;
+            if ((runs & 1) != 0) {
+                rotateStrike();
+            }
+        }
+
+        if (this.targetScore <= this.currentTeamScore) {
+            this.result = WON;
+        } else if (this.ballsBowled == this.totalBalls) {
+            this.result = this.targetScore - 1 == this.currentTeamScore ? TIED : LOST;
+        } else if (this.ballsBowled % 6 == 0) {
+            rotateStrike();                                 // end of the over
+        }
+        if (this.result >= 0 && this.observer != null) {
+            this.observer.inningsEnded();
+        }
+    }
+
+    /**
+     * Simulates the strike change after batsman has scored 1,3,5 runs or after the end of over.
+     */
+    private void rotateStrike() {
+        int batsman = this.striker;
+        this.striker = this.nonStriker;
+        this.nonStriker = batsman;
+    }
+
+    /**
+     * Get the batting order this innings is played with
+     *
+     * @return Lineup The lineup
+     */
+    Lineup getLineup() {
+        return this.lineup;
+    }
+
+    /**
+     * Get the result of the innings
+     *
+     * @return int WON, TIED or LOST, -1 while the innings is in progress
+     */
+    int getResult() {
+        return this.result;
+    }
+
+    /**
+     * Get the current scoreboard of the team
+     *
+     * @return int The team score
+     */
+    int getCurrentTeamScore() {
+        return this.currentTeamScore;
+    }
+
+    /**
+     * Get the number of wickets fallen
+     *
+     * @return int The wickets fallen
+     */
+    int getWickets() {
+        return this.wickets;
+    }
+
+    /**
+     * Get the number of balls bowled so far
+     *
+     * @return int The balls bowled
+     */
+    int getBallsBowled() {
+        return this.ballsBowled;
+    }
+
+    /**
+     * Get the number of balls left in the innings
+     *
+     * @return int The balls remaining
+     */
+    int getBallsRemaining() {
+        return this.totalBalls - this.ballsBowled;
+    }
+
+    /**
+     * Get the batting position on strike
+     *
+     * @return int The striker position
+     */
+    int getStriker() {
+        return this.striker;
+    }
+
+    /**
+     * Get the batting position at the non-striker end
+     *
+     * @return int The non-striker position
+     */
+    int getNonStriker() {
+        return this.nonStriker;
+    }
+
+    /**
+     * Get the batting position of the next man in
+     *
+     * @return int The next batsman position, equal to the lineup size once every batsman has come in
+     */
+    int getNextBatsman() {
+        return this.nextBatsman;
+    }
+
+    /**
+     * Get the runs scored by a batting position
+     *
+     * @param position The zero based batting position
+     * @return int The runs scored
+     */
+    int getRunScored(int position) {
+        return this.runScored[position];
+    }
+
+    /**
+     * Get the balls faced by a batting position
+     *
+     * @param position The zero based batting position
+     * @return int The balls faced
+     */
+    int getBallsPlayedCount(int position) {
+        return this.ballsPlayedCount[position];
+    }
+}
@@ -0,0 +1,263 @@
+package org.ipl;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Structure-of-arrays innings kernel. Holds up to @capacity innings of the same chase in primitive arrays, one lane per
+ * innings, and advances every unfinished lane by one ball per step(). Finished lanes are dropped from the active list,
+ * so a step only touches lanes still in play.
+ * Each lane applies exactly the rules of Innings.playBall(), so a lane fed from a random stream ends in the same state
+ * as Match.startMatch() or Innings.play() fed from that stream.
+ * Not ThreadSafe :- one instance per worker thread.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class InningsBatch {
+
+    private final Lineup lineup;
+    private final int players;
+    private final int targetScore;
+    private final int totalBalls;
+    private final int capacity;
+
+    private final int[] currentTeamScore;                   // per lane
+    private final int[] wickets;                            // per lane
+    private final int[] ballsBowled;                        // per lane
+    private final int[] striker;                            // per lane, batting position on strike
+    private final int[] nonStriker;                         // per lane, batting position at the other end
+    private final int[] nextBatsman;                        // per lane, batting position of the next man in
+    private final int[] result;                             // per lane, -1 while in play
+    private final int[] runScored;                          // lane * players + batting position
+    private final int[] ballsPlayedCount;                   // lane * players + batting position
+    private final RandomGenerator[] randoms;                // per lane random stream
+
+    private final int[] active;                             // lanes still in play, first activeCount entries
+    private int activeCount;
+    private int lanes;                                      // lanes in use since the last start
+
+    InningsBatch(Lineup lineup, int targetScore, int overs, int capacity) {
+        this.lineup = lineup;
+        this.players = lineup.size();
+        this.targetScore = targetScore;
+        this.totalBalls = overs * 6;
+        this.capacity = capacity;
+        this.currentTeamScore = new int[capacity];
+        this.wickets = new int[capacity];
+        this.ballsBowled = new int[capacity];
+        this.striker = new int[capacity];
+        this.nonStriker = new int[capacity];
+        this.nextBatsman = new int[capacity];
+        this.result = new int[capacity];
+        this.runScored = new int[capacity * this.players];
+        this.ballsPlayedCount = new int[capacity * this.players];
+        this.randoms = new RandomGenerator[capacity];
+        this.active = new int[capacity];
+    }
+
+    /**
+     * Start @lanes fresh innings that all draw from one shared random source.
+     *
+     * @param lanes  The number of innings, at most the capacity
+     * @param random The random source shared by all lanes
+     */
+    void start(int lanes, RandomGenerator random) {
+        for (int lane = 0; lane < lanes; lane++) {
+            this.randoms[lane] = random;
+        }
+        reset(lanes);
+    }
+
+    /**
+     * Start one fresh innings per random source, lane i drawing only from @randoms[i].
+     *
+     * @param randoms The random source of every lane, at most capacity entries
+     */
+    void start(RandomGenerator[] randoms) {
+        System.arraycopy(randoms, 0, this.randoms, 0, randoms.length);
+        reset(randoms.length);
+    }
+
+    /**
+     * Put the first @lanes lanes back on the first ball with the openers at the crease.
+     *
+     * @param lanes The number of lanes to use
+     */
+    private void reset(int lanes) {
+        if (lanes > this.capacity) {
+            throw new IllegalArgumentException("batch capacity is " + this.capacity);
+        }
+        this.lanes = lanes;
+        this.activeCount = lanes;
+        for (int lane = 0; lane < lanes; lane++) {
+            this.currentTeamScore[lane] = 0;
+            this.wickets[lane] = 0;
+            this.ballsBowled[lane] = 0;
+            this.striker[lane] = 0;
+            this.nonStriker[lane] = 1;
+            this.nextBatsman[lane] = 2;
+            this.result[lane] = -1;
+            this.active[lane] = lane;
+        }
+        Arrays.fill(this.runScored, 0, lanes * this.players, 0);
+        Arrays.fill(this.ballsPlayedCount, 0, lanes * this.players, 0);
+    }
+
+    /**
+     * Play one ball in every lane still in play.
+     *
+     * @return int The number of lanes still in play afterwards
+     */
+    int step() {
+        int kept = 0;
+        for (int i = 0; i < this.activeCount; i++) {
+            int lane = this.active[i];
+            int onStrike = this.striker[lane];
+            int outcome = this.lineup.getSampler(onStrike).sample(this.randoms[lane]);
+
+            this.ballsPlayedCount[lane * this.players + onStrike]++;
+            int bowled = ++this.ballsBowled[lane];
+
+            if (outcome == BallOutcome.OUT) {
+                this.wickets[lane]++;
+                if (this.nextBatsman[lane] == this.players) {
+                    this.result[lane] = Innings.LOST;       // no players left
+                    continue;
+                }
+                this.striker[lane] = this.nextBatsman[lane]++;
+            } else {
+                int runs = BallOutcome.RUNS[outcome];
+                this.runScored[lane * this.players + onStrike] += runs;
+                this.currentTeamScore[lane] += runs;
+                if ((runs & 1) != 0) {
+                    rotateStrike(lane);
+                }
+            }
+
+            if (this.targetScore <= this.currentTeamScore[lane]) {
+                this.result[lane] = Innings.WON;
+            } else if (bowled == this.totalBalls) {
+                this.result[lane] = this.targetScore - 1 == this.currentTeamScore[lane] ? Innings.TIED : Innings.LOST;
+            } else {
+                if (bowled % 6 == 0) {
+                    rotateStrike(lane);                     // end of the over
+                }
+                this.active[kept++] = lane;
+            }
+        }
+        this.activeCount = kept;
+        return kept;
+    }
+
+    /**
+     * Step until every lane has finished.
+     */
+    void run() {
+        while (step() > 0) {
+            // keep bowling
+        }
+    }
+
+    /**
+     * Simulates the strike change in a lane after batsman has scored 1,3,5 runs or after the end of over.
+     *
+     * @param lane The lane
+     */
+    private void rotateStrike(int lane) {
+        int batsman = this.striker[lane];
+        this.striker[lane] = this.nonStriker[lane];
+        this.nonStriker[lane] = batsman;
+    }
+
+    /**
+     * Add every finished lane to @into.
+     *
+     * @param into The aggregate for the same lineup and overs
+     */
+    void recordInto(SimulationResult into) {
+        for (int lane = 0; lane < this.lanes; lane++) {
+            if (this.result[lane] < 0) {
+                continue;
+            }
+            into.recordResult(this.result[lane], this.currentTeamScore[lane], this.totalBalls - this.ballsBowled[lane], this.wickets[lane]);
+            int offset = lane * this.players;
+            for (int position = 0; position < this.players; position++) {
+                into.recordBatsman(position, this.runScored[offset + position], this.ballsPlayedCount[offset + position],
+                        position < this.nextBatsman[lane]);
+            }
+        }
+    }
+
+    /**
+     * Get the maximum number of lanes
+     *
+     * @return int The capacity
+     */
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get the result of a lane
+     *
+     * @param lane The lane
+     * @return int Innings.WON, Innings.TIED or Innings.LOST, -1 while the lane is in play
+     */
+    int getResult(int lane) {
+        return this.result[lane];
+    }
+
+    /**
+     * Get the team score of a lane
+     *
+     * @param lane The lane
+     * @return int The team score
+     */
+    int getCurrentTeamScore(int lane) {
+        return this.currentTeamScore[lane];
+    }
+
+    /**
+     * Get the wickets fallen in a lane
+     *
+     * @param lane The lane
+     * @return int The wickets fallen
+     */
+    int getWickets(int lane) {
+        return this.wickets[lane];
+    }
+
+    /**
+     * Get the balls bowled in a lane
+     *
+     * @param lane The lane
+     * @return int The balls bowled
+     */
+    int getBallsBowled(int lane) {
+        return this.ballsBowled[lane];
+    }
+
+    /**
+     * Get the runs scored by a batting position in a lane
+     *
+     * @param lane     The lane
+     * @param position The zero based batting position
+     * @return int The runs scored
+     */
+    int getRunScored(int lane, int position) {
+        return this.runScored[lane * this.players + position];
+    }
+
+    /**
+     * Get the balls faced by a batting position in a lane
+     *
+     * @param lane     The lane
+     * @param position The zero based batting position
+     * @return int The balls faced
+     */
+    int getBallsPlayedCount(int lane, int position) {
+        return this.ballsPlayedCount[lane * this.players + position];
+    }
+}
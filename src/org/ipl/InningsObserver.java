@@ -0,0 +1,36 @@
+package org.ipl;
+
+/**
+ * Receives every delivery of an innings as it is played, by Innings or Match, e.g. to write a ball-by-ball log.
+ * Called on the thread playing the innings.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+interface InningsObserver {
+
+    /**
+     * A ball has been bowled
+     *
+     * @param over        The zero based over
+     * @param ball        The ball in the over, 1 to 6
+     * @param playerIndex The striker's dense id in the registry
+     * @param outcome     The outcome index, refer to BallOutcome.java
+     */
+    void deliveryPlayed(int over, int ball, int playerIndex, int outcome);
+
+    /**
+     * The innings is over: won, tied, all out or out of overs
+     */
+    void inningsEnded();
+
+    /**
+     * Get the most overs of an innings this observer can record
+     *
+     * @return int The overs limit, Integer.MAX_VALUE when there is none
+     */
+    default int getMaxOvers() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,206 @@
+package org.ipl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The state of a chase at one ball: the score, the balls bowled, the batsmen at the crease with their runs and balls,
+ * and the batting order still to come in. Taken with MatchSimulator.playTo() or from any Innings.
+ * A snapshot is a handful of primitives and two arrays indexed by batting position, so forking a continuation copies
+ * those into a worker's reusable Innings: the cost depends on the squad size, not on how far into the innings the
+ * snapshot was taken, and nothing is shared between continuations except the immutable snapshot and lineup.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class InningsSnapshot {
+    final Lineup lineup;
+    final int targetScore;
+    final int overs;
+    final int currentTeamScore;
+    final int wickets;
+    final int ballsBowled;
+    final int striker;                                      // batting position on strike
+    final int nonStriker;                                   // batting position at the other end
+    final int nextBatsman;                                  // batting position of the next man in
+    final int result;                                       // WON, TIED or LOST, -1 while in progress
+    final int[] runScored;                                  // runs per batting position, never modified
+    final int[] ballsPlayedCount;                           // balls faced per batting position, never modified
+
+    InningsSnapshot(Lineup lineup, int targetScore, int overs, int currentTeamScore, int wickets, int ballsBowled,
+                    int striker, int nonStriker, int nextBatsman, int result, int[] runScored, int[] ballsPlayedCount) {
+        this.lineup = lineup;
+        this.targetScore = targetScore;
+        this.overs = overs;
+        this.currentTeamScore = currentTeamScore;
+        this.wickets = wickets;
+        this.ballsBowled = ballsBowled;
+        this.striker = striker;
+        this.nonStriker = nonStriker;
+        this.nextBatsman = nextBatsman;
+        this.result = result;
+        this.runScored = runScored;
+        this.ballsPlayedCount = ballsPlayedCount;
+    }
+
+    /**
+     * Play @continuations innings on from this ball on the common fork-join pool.
+     *
+     * @param continuations The number of continuations to play. Must not be negative.
+     * @return SimulationResult The aggregated result of the whole innings, the balls before the snapshot included
+     */
+    public SimulationResult simulate(long continuations) {
+        return simulate(continuations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Play @continuations innings on from this ball on the given fork-join pool.
+     *
+     * @param continuations The number of continuations to play. Must not be negative.
+     * @param pool          The pool to run on, its parallelism decides how many continuations are played at once
+     * @return SimulationResult The aggregated result of the whole innings, the balls before the snapshot included
+     */
+    public SimulationResult simulate(long continuations, ForkJoinPool pool) {
+        return MatchSimulator.getInstance(this.lineup, this.targetScore, this.overs).simulate(continuations, this, pool);
+    }
+
+    /**
+     * Play @continuations innings on from this ball reproducibly on the given fork-join pool. Continuation i draws from
+     * stream i of @seed, so the result does not depend on the pool's parallelism.
+     *
+     * @param continuations The number of continuations to play. Must not be negative.
+     * @param seed          The root seed, the same seed always gives the same result
+     * @param pool          The pool to run on, its parallelism decides how many continuations are played at once
+     * @return SimulationResult The aggregated result of the whole innings, the balls before the snapshot included
+     */
+    public SimulationResult simulate(long continuations, long seed, ForkJoinPool pool) {
+        return MatchSimulator.getInstance(this.lineup, this.targetScore, this.overs).simulate(continuations, seed, this, pool);
+    }
+
+    /**
+     * Get the exact probabilities of the chase from this ball, refer to WinProbabilitySolver.java
+     *
+     * @return WinProbability the exact probabilities, a certain result once the innings has ended
+     */
+    public WinProbability getWinProbability() {
+        if (this.result >= 0) {
+            return new WinProbability(this.result == Innings.WON ? 1 : 0, this.result == Innings.TIED ? 1 : 0);
+        }
+        return WinProbabilitySolver.getInstance(this.lineup)
+                .solve(getBallsRemaining(), getRunsNeeded(), this.striker, this.nonStriker);
+    }
+
+    /**
+     * Get the current scoreboard of the team
+     *
+     * @return int The team score
+     */
+    public int getScore() {
+        return this.currentTeamScore;
+    }
+
+    /**
+     * Get the runs still needed to reach the target
+     *
+     * @return int The runs needed, 0 or less once the target is reached
+     */
+    public int getRunsNeeded() {
+        return this.targetScore - this.currentTeamScore;
+    }
+
+    /**
+     * Get the number of wickets fallen
+     *
+     * @return int The wickets fallen
+     */
+    public int getWickets() {
+        return this.wickets;
+    }
+
+    /**
+     * Get the number of balls bowled
+     *
+     * @return int The balls bowled
+     */
+    public int getBallsBowled() {
+        return this.ballsBowled;
+    }
+
+    /**
+     * Get the number of balls left in the innings
+     *
+     * @return int The balls remaining
+     */
+    public int getBallsRemaining() {
+        return this.overs * 6 - this.ballsBowled;
+    }
+
+    /**
+     * Check if the innings has ended: the target was reached, the overs ran out or the team was bowled out
+     *
+     * @return boolean True, if no more balls can be played
+     */
+    public boolean isFinished() {
+        return this.result >= 0;
+    }
+
+    /**
+     * Get the batsman on strike
+     *
+     * @return String The player id
+     */
+    public String getStriker() {
+        return this.lineup.getPlayerId(this.striker);
+    }
+
+    /**
+     * Get the batsman at the other end
+     *
+     * @return String The player id
+     */
+    public String getNonStriker() {
+        return this.lineup.getPlayerId(this.nonStriker);
+    }
+
+    /**
+     * Get the batsmen still to come in
+     *
+     * @return List<String> the player ids in batting order
+     */
+    public List<String> getYetToBat() {
+        List<String> yetToBat = new ArrayList<>(this.lineup.size() - this.nextBatsman);
+        for (int position = this.nextBatsman; position < this.lineup.size(); position++) {
+            yetToBat.add(this.lineup.getPlayerId(position));
+        }
+        return yetToBat;
+    }
+
+    /**
+     * Get the runs scored by a batting position so far
+     *
+     * @param position The zero based batting position
+     * @return int The runs scored
+     */
+    public int getRunsScored(int position) {
+        return this.runScored[position];
+    }
+
+    /**
+     * Get the balls faced by a batting position so far
+     *
+     * @param position The zero based batting position
+     * @return int The balls faced
+     */
+    public int getBallsFaced(int position) {
+        return this.ballsPlayedCount[position];
+    }
+
+    @Override
+    public String toString() {
+        return this.lineup.getTeamName() + " " + this.currentTeamScore + "/" + this.wickets + " after "
+                + this.ballsBowled / 6 + "." + this.ballsBowled % 6 + " overs, " + getRunsNeeded() + " to win";
+    }
+}
@@ -0,0 +1,482 @@
+package org.ipl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Columnar file of simulated innings, written by MatchSimulator.record(): one column per field, each a flat array of
+ * primitives, and the packed InningsTrace of every innings at a fixed stride. A scan such as getScoreCountsAfter()
+ * reads one memory-mapped column front to back and touches no objects.
+ * <pre>
+ * int   magic 'KPLS'
+ * short version
+ * short overs
+ * int   target score
+ * long  innings count n
+ * short players, then per batting position a short length and the UTF-8 player id
+ * columns, each starting on an 8 byte boundary:
+ *   short[n] final score
+ *   short[n] balls bowled
+ *   byte[n]  wickets
+ *   byte[n]  result, 0 won, 1 tied, 2 lost
+ *   long[n * words] traces, words = ceil(overs * 6 / 9), zero after the last ball
+ * </pre>
+ * Innings i is played from stream i of the seed, so the store holds exactly the innings simulate() plays with the
+ * same seed. Columns are mapped in segments of 2^20 innings, so a store may hold more than 2 GB of traces.
+ * ThreadSafe :- immutable once opened, any number of threads may scan it.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class InningsStore {
+
+    static final int MAGIC = 0x4B504C53;                    // "KPLS"
+    static final short VERSION = 1;
+    private static final int SEGMENT_BITS = 20;             // innings per mapped segment, as a power of two
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+    private static final int BLOCK_INNINGS = 1 << 16;       // innings played in memory before a write
+    private static final int MIN_INNINGS_PER_TASK = 1024;
+
+    private final long innings;
+    private final int overs;
+    private final int targetScore;
+    private final String[] playerIds;
+    private final int words;                                // trace words per innings
+    private final MappedByteBuffer[] scores;
+    private final MappedByteBuffer[] balls;
+    private final MappedByteBuffer[] wickets;
+    private final MappedByteBuffer[] results;
+    private final MappedByteBuffer[] traces;
+
+    private InningsStore(FileChannel channel, long innings, int overs, int targetScore, String[] playerIds, long offset) throws IOException {
+        this.innings = innings;
+        this.overs = overs;
+        this.targetScore = targetScore;
+        this.playerIds = playerIds;
+        this.words = InningsTrace.wordsFor(overs * 6);
+        if (traceOffset(offset, innings) + 8L * this.words * innings > channel.size()) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Innings_Store.toString());   // truncated
+        }
+        this.scores = map(channel, offset, innings, 2);
+        offset = align(offset + 2 * innings);
+        this.balls = map(channel, offset, innings, 2);
+        offset = align(offset + 2 * innings);
+        this.wickets = map(channel, offset, innings, 1);
+        offset = align(offset + innings);
+        this.results = map(channel, offset, innings, 1);
+        offset = align(offset + innings);
+        this.traces = map(channel, offset, innings, 8 * this.words);
+    }
+
+    /**
+     * Open a store written by MatchSimulator.record().
+     *
+     * @param file The store file
+     * @return InningsStore the store, mapped read only
+     * @throws IOException              if the file can not be read
+     * @throws IllegalArgumentException if the file is not a valid store
+     */
+    public static InningsStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), 1 << 16));
+            int overs;
+            int targetScore;
+            long innings;
+            String[] playerIds;
+            try {
+                if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                    throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Innings_Store);
+                }
+                overs = header.getShort();
+                targetScore = header.getInt();
+                innings = header.getLong();
+                playerIds = new String[header.getShort()];
+                for (int position = 0; position < playerIds.length; position++) {
+                    byte[] id = new byte[header.getShort()];
+                    header.get(id);
+                    playerIds[position] = new String(id, StandardCharsets.UTF_8);
+                }
+            } catch (BufferUnderflowException | NegativeArraySizeException e) {
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Innings_Store, e);   // truncated header
+            }
+            if (overs <= 0 || overs >= BallEventLog.MAX_OVERS || innings <= 0) {
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Innings_Store);
+            }
+            return new InningsStore(channel, innings, overs, targetScore, playerIds, align(header.position()));
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    /**
+     * Offset of the trace column of @innings innings whose score column starts at @offset
+     */
+    private static long traceOffset(long offset, long innings) {
+        return align(align(align(align(offset + 2 * innings) + 2 * innings) + innings) + innings);
+    }
+
+    /**
+     * Map @count elements of @width bytes from @offset, one buffer per segment.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, long offset, long count, int width) throws IOException {
+        MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((count + SEGMENT_MASK) >>> SEGMENT_BITS)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            long first = (long) segment << SEGMENT_BITS;
+            long size = Math.min(1L << SEGMENT_BITS, count - first) * width;
+            segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * width, size);
+        }
+        return segments;
+    }
+
+    /**
+     * Play @innings innings reproducibly and write them to @file, refer to MatchSimulator.record()
+     */
+    static InningsStore write(Lineup lineup, int targetScore, int overs, long innings, long seed, Path file, ForkJoinPool pool) throws IOException {
+        if (lineup.size() > InningsTrace.MAX_POSITIONS || overs >= BallEventLog.MAX_OVERS) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Not_Traceable.toString());
+        } else if (innings <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        }
+        int words = InningsTrace.wordsFor(overs * 6);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(1 << 16);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) overs).putInt(targetScore).putLong(innings)
+                    .putShort((short) lineup.size());
+            for (int position = 0; position < lineup.size(); position++) {
+                byte[] id = lineup.getPlayerId(position).getBytes(StandardCharsets.UTF_8);
+                header.putShort((short) id.length).put(id);
+            }
+            long scoreOffset = align(header.position());
+            long ballsOffset = align(scoreOffset + 2 * innings);
+            long wicketsOffset = align(ballsOffset + 2 * innings);
+            long resultOffset = align(wicketsOffset + innings);
+            long traceOffset = align(resultOffset + innings);
+            header.flip();
+            write(channel, header, 0);
+
+            Block block = new Block((int) Math.min(BLOCK_INNINGS, innings), words);
+            for (long first = 0; first < innings; first += BLOCK_INNINGS) {
+                int count = (int) Math.min(BLOCK_INNINGS, innings - first);
+                block.clear(count);
+                pool.invoke(new RecordTask(lineup, targetScore, overs, seed, first, 0, count, block));
+                write(channel, block.scores.clear().limit(2 * count), scoreOffset + 2 * first);
+                write(channel, block.balls.clear().limit(2 * count), ballsOffset + 2 * first);
+                write(channel, block.wickets.clear().limit(count), wicketsOffset + first);
+                write(channel, block.results.clear().limit(count), resultOffset + first);
+                write(channel, block.traces.clear().limit(8 * words * count), traceOffset + 8L * words * first);
+            }
+        }
+        return open(file);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * The columns of up to BLOCK_INNINGS innings, filled in place by the RecordTasks.
+     */
+    private static final class Block {
+        final ByteBuffer scores;
+        final ByteBuffer balls;
+        final ByteBuffer wickets;
+        final ByteBuffer results;
+        final ByteBuffer traces;
+        final long[] words;                                 // traces before they are copied into the buffer
+        final int stride;
+
+        Block(int innings, int stride) {
+            this.scores = ByteBuffer.allocate(2 * innings);
+            this.balls = ByteBuffer.allocate(2 * innings);
+            this.wickets = ByteBuffer.allocate(innings);
+            this.results = ByteBuffer.allocate(innings);
+            this.traces = ByteBuffer.allocate(8 * stride * innings);
+            this.words = new long[stride * innings];
+            this.stride = stride;
+        }
+
+        void clear(int innings) {
+            Arrays.fill(this.words, 0, this.stride * innings, 0);
+        }
+    }
+
+    /**
+     * Plays innings @first + @from to @first + @to - 1 into slots @from to @to - 1 of the block.
+     */
+    private static final class RecordTask extends RecursiveAction {
+        static final long serialVersionUID = 1L;
+
+        private final Lineup lineup;
+        private final int targetScore;
+        private final int overs;
+        private final long seed;
+        private final long first;
+        private final int from;
+        private final int to;
+        private final Block block;
+
+        RecordTask(Lineup lineup, int targetScore, int overs, long seed, long first, int from, int to, Block block) {
+            this.lineup = lineup;
+            this.targetScore = targetScore;
+            this.overs = overs;
+            this.seed = seed;
+            this.first = first;
+            this.from = from;
+            this.to = to;
+            this.block = block;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > MIN_INNINGS_PER_TASK) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new RecordTask(this.lineup, this.targetScore, this.overs, this.seed, this.first, this.from, middle, this.block),
+                        new RecordTask(this.lineup, this.targetScore, this.overs, this.seed, this.first, middle, this.to, this.block));
+                return;
+            }
+            Innings innings = new Innings(this.lineup, this.targetScore, this.overs);
+            StreamRandom random = new StreamRandom(this.seed, this.first + this.from);
+            long[] words = this.block.words;
+            int stride = this.block.stride;
+            for (int slot = this.from; slot < this.to; slot++) {
+                random.reseed(this.seed, this.first + slot);
+                innings.reset();
+                while (innings.getResult() < 0) {
+                    int striker = innings.getStriker();
+                    int outcome = this.lineup.getSampler(striker).sample(random);
+                    InningsTrace.pack(words, slot * stride, innings.getBallsBowled(), striker, outcome);
+                    innings.playBall(outcome);
+                }
+                this.block.scores.putShort(2 * slot, (short) innings.getCurrentTeamScore());
+                this.block.balls.putShort(2 * slot, (short) innings.getBallsBowled());
+                this.block.wickets.put(slot, (byte) innings.getWickets());
+                this.block.results.put(slot, (byte) innings.getResult());
+                for (int word = slot * stride; word < (slot + 1) * stride; word++) {
+                    this.block.traces.putLong(8 * word, words[word]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of innings in the store
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the overs each innings was played over
+     *
+     * @return int The overs
+     */
+    public int getOvers() {
+        return this.overs;
+    }
+
+    /**
+     * Get the target each innings chased
+     *
+     * @return int The target score
+     */
+    public int getTargetScore() {
+        return this.targetScore;
+    }
+
+    /**
+     * Get the player at a batting position, the positions an InningsTrace refers to
+     *
+     * @param position The zero based batting position
+     * @return String The player id
+     */
+    public String getPlayerId(int position) {
+        return this.playerIds[position];
+    }
+
+    private void check(long inning) {
+        if (inning < 0 || inning >= this.innings) {
+            throw new IndexOutOfBoundsException(Long.toString(inning));
+        }
+    }
+
+    /**
+     * Get the final score of an innings
+     *
+     * @param inning The zero based innings number
+     * @return int The team score
+     */
+    public int getScore(long inning) {
+        check(inning);
+        return this.scores[(int) (inning >>> SEGMENT_BITS)].getShort(2 * ((int) inning & SEGMENT_MASK));
+    }
+
+    /**
+     * Get the balls bowled in an innings
+     *
+     * @param inning The zero based innings number
+     * @return int The ball count
+     */
+    public int getBallsBowled(long inning) {
+        check(inning);
+        return this.balls[(int) (inning >>> SEGMENT_BITS)].getShort(2 * ((int) inning & SEGMENT_MASK));
+    }
+
+    /**
+     * Get the wickets fallen in an innings
+     *
+     * @param inning The zero based innings number
+     * @return int The wickets
+     */
+    public int getWickets(long inning) {
+        check(inning);
+        return this.wickets[(int) (inning >>> SEGMENT_BITS)].get((int) inning & SEGMENT_MASK);
+    }
+
+    /**
+     * Check if an innings reached its target
+     *
+     * @param inning The zero based innings number
+     * @return boolean True, if the chase was won
+     */
+    public boolean isWon(long inning) {
+        check(inning);
+        return this.results[(int) (inning >>> SEGMENT_BITS)].get((int) inning & SEGMENT_MASK) == Innings.WON;
+    }
+
+    /**
+     * Check if an innings ended level with the target
+     *
+     * @param inning The zero based innings number
+     * @return boolean True, if the chase was tied
+     */
+    public boolean isTied(long inning) {
+        check(inning);
+        return this.results[(int) (inning >>> SEGMENT_BITS)].get((int) inning & SEGMENT_MASK) == Innings.TIED;
+    }
+
+    /**
+     * Get every ball of an innings
+     *
+     * @param inning The zero based innings number
+     * @return InningsTrace the packed balls
+     */
+    public InningsTrace getTrace(long inning) {
+        int balls = getBallsBowled(inning);
+        MappedByteBuffer segment = this.traces[(int) (inning >>> SEGMENT_BITS)];
+        int offset = 8 * this.words * ((int) inning & SEGMENT_MASK);
+        long[] words = new long[this.words];
+        for (int word = 0; word < words.length; word++) {
+            words[word] = segment.getLong(offset + 8 * word);
+        }
+        return new InningsTrace(words, balls);
+    }
+
+    /**
+     * Get the fraction of innings won, scanning the result column
+     *
+     * @return double The win probability
+     */
+    public double getWinProbability() {
+        return (double) countResults(Innings.WON) / this.innings;
+    }
+
+    /**
+     * Get the fraction of innings tied, scanning the result column
+     *
+     * @return double The tie probability
+     */
+    public double getTieProbability() {
+        return (double) countResults(Innings.TIED) / this.innings;
+    }
+
+    private long countResults(int result) {
+        long count = 0;
+        for (MappedByteBuffer segment : this.results) {
+            for (int i = 0, limit = segment.limit(); i < limit; i++) {
+                if (segment.get(i) == result) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the distribution of final scores, scanning the score column
+     *
+     * @return long[] the number of innings per score, indexed by score
+     */
+    public long[] getScoreCounts() {
+        long[] counts = new long[6 * 6 * this.overs + 1];
+        for (MappedByteBuffer segment : this.scores) {
+            for (int i = 0, limit = segment.limit(); i < limit; i += 2) {
+                counts[segment.getShort(i)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Get the distribution of the team score after a number of overs, scanning the trace column. An innings that ended
+     * sooner counts with its final score.
+     *
+     * @param overs The overs bowled, from 0 to getOvers()
+     * @return long[] the number of innings per score, indexed by score
+     */
+    public long[] getScoreCountsAfter(int overs) {
+        if (overs < 0 || overs > this.overs) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Overs_Out_Of_Range.toString());
+        }
+        int balls = 6 * overs;
+        int fullWords = balls / InningsTrace.BALLS_PER_WORD;
+        int lastBalls = balls % InningsTrace.BALLS_PER_WORD;
+        long[] counts = new long[6 * balls + 1];
+        int stride = 8 * this.words;
+        for (MappedByteBuffer segment : this.traces) {
+            for (int offset = 0, limit = segment.limit(); offset < limit; offset += stride) {
+                int score = 0;
+                for (int word = 0; word < fullWords; word++) {
+                    score += runs(segment.getLong(offset + 8 * word), InningsTrace.BALLS_PER_WORD);
+                }
+                if (lastBalls > 0) {
+                    score += runs(segment.getLong(offset + 8 * fullWords), lastBalls);
+                }
+                counts[score]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Runs scored off the first @balls balls packed in @word; unused slots are zero and score nothing.
+     */
+    private static int runs(long word, int balls) {
+        int runs = 0;
+        for (int ball = 0; ball < balls; ball++) {
+            runs += BallOutcome.RUNS[InningsTrace.outcomeAt(word, ball)];
+        }
+        return runs;
+    }
+
+    @Override
+    public String toString() {
+        return this.innings + " innings chasing " + this.targetScore + " in " + this.overs + " overs";
+    }
+}
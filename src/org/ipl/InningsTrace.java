@@ -0,0 +1,115 @@
+package org.ipl;
+
+/**
+ * Every ball of one innings packed seven bits a ball, nine balls to a long, about 1 byte a ball against the 30 of a
+ * commentary line. Read from an InningsStore.
+ * <pre>
+ * ball b is bits 7 * (b % 9) to 7 * (b % 9) + 6 of word b / 9, least significant first:
+ *   3 bits  outcome index, refer to BallOutcome.java
+ *   4 bits  striker's zero based batting position
+ * </pre>
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class InningsTrace {
+
+    static final int BITS_PER_BALL = 7;
+    static final int BALLS_PER_WORD = 64 / BITS_PER_BALL;
+    static final int MAX_POSITIONS = 1 << 4;                // batting positions a ball can hold
+    private static final int BALL_MASK = (1 << BITS_PER_BALL) - 1;
+
+    private final long[] words;
+    private final int balls;
+
+    InningsTrace(long[] words, int balls) {
+        this.words = words;
+        this.balls = balls;
+    }
+
+    /**
+     * Number of words that hold @balls balls
+     */
+    static int wordsFor(int balls) {
+        return (balls + BALLS_PER_WORD - 1) / BALLS_PER_WORD;
+    }
+
+    /**
+     * Pack one ball into its place in @words.
+     */
+    static void pack(long[] words, int offset, int ball, int position, int outcome) {
+        words[offset + ball / BALLS_PER_WORD] |= (long) (position << 3 | outcome) << (BITS_PER_BALL * (ball % BALLS_PER_WORD));
+    }
+
+    /**
+     * Outcome index of ball @ball of the innings packed from @word on
+     */
+    static int outcomeAt(long word, int ball) {
+        return (int) (word >>> (BITS_PER_BALL * (ball % BALLS_PER_WORD))) & 7;
+    }
+
+    private int slot(int ball) {
+        if (ball < 0 || ball >= this.balls) {
+            throw new IndexOutOfBoundsException(ball);
+        }
+        return (int) (this.words[ball / BALLS_PER_WORD] >>> (BITS_PER_BALL * (ball % BALLS_PER_WORD))) & BALL_MASK;
+    }
+
+    /**
+     * Get the number of balls bowled in the innings
+     *
+     * @return int The ball count
+     */
+    public int getBallCount() {
+        return this.balls;
+    }
+
+    /**
+     * Get the runs scored off a ball
+     *
+     * @param ball The zero based ball of the innings
+     * @return int The runs, -1 if the batsman was out
+     */
+    public int getValue(int ball) {
+        return BallOutcome.VALUES[slot(ball) & 7];
+    }
+
+    /**
+     * Get the batting position on strike for a ball
+     *
+     * @param ball The zero based ball of the innings
+     * @return int The zero based batting position
+     */
+    public int getStriker(int ball) {
+        return slot(ball) >>> 3;
+    }
+
+    /**
+     * Get the team score after a number of balls, the final score if the innings ended sooner
+     *
+     * @param balls The number of balls bowled. Must not be negative.
+     * @return int The team score
+     */
+    public int getScoreAfter(int balls) {
+        int score = 0;
+        for (int ball = 0; ball < Math.min(balls, this.balls); ball++) {
+            score += BallOutcome.RUNS[slot(ball) & 7];
+        }
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(this.balls * 2);
+        for (int ball = 0; ball < this.balls; ball++) {
+            if (ball > 0) {
+                builder.append(ball % 6 == 0 ? " | " : " ");
+            }
+            int value = getValue(ball);
+            builder.append(value < 0 ? "W" : Integer.toString(value));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,163 @@
+package org.ipl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Immutable snapshot of a team's batting order together with the data needed to simulate it: player ids, names,
+ * samplers and outcome probabilities resolved from the team's PlayerRegistry, indexed by batting position. Taking a snapshot leaves the team untouched, so one lineup can back any
+ * number of simulated innings on any number of threads.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class Lineup {
+    private final String teamName;
+    private final PlayerRegistry registry;
+    private final int[] playerIndexes;                      // dense ids in the registry
+    private final String[] playerIds;
+    private final String[] playerNames;
+    private final AliasSampler[] samplers;
+    private final double[][] outcomeProbabilities;
+
+    private Lineup(String teamName, PlayerRegistry registry, int[] playerIndexes) {
+        this.teamName = teamName;
+        this.registry = registry;
+        this.playerIndexes = playerIndexes.clone();
+        this.playerIds = new String[playerIndexes.length];
+        this.playerNames = new String[playerIndexes.length];
+        this.samplers = new AliasSampler[playerIndexes.length];
+        this.outcomeProbabilities = new double[playerIndexes.length][];
+        for (int i = 0; i < playerIndexes.length; i++) {
+            this.playerIds[i] = registry.getPlayerId(playerIndexes[i]);
+            this.playerNames[i] = registry.getPlayerName(playerIndexes[i]);
+            this.samplers[i] = registry.getSampler(playerIndexes[i]);
+            this.outcomeProbabilities[i] = registry.getOutcomeProbabilities(playerIndexes[i]);
+        }
+    }
+
+    /**
+     * Get the lineup instance
+     *
+     * @param teamName      The team name
+     * @param registry      The registry the players are picked from
+     * @param playerIndexes The dense player ids in batting order
+     * @return Lineup
+     */
+    static Lineup getInstance(String teamName, PlayerRegistry registry, int[] playerIndexes) {
+        return new Lineup(teamName, registry, playerIndexes);
+    }
+
+    /**
+     * Get the number of players in the batting order
+     *
+     * @return int The number of players
+     */
+    int size() {
+        return this.playerIds.length;
+    }
+
+    /**
+     * Get team name
+     *
+     * @return String Team Name
+     */
+    String getTeamName() {
+        return this.teamName;
+    }
+
+    /**
+     * Get the unique player id at a batting position
+     *
+     * @param position The zero based batting position
+     * @return String The player id
+     */
+    String getPlayerId(int position) {
+        return this.playerIds[position];
+    }
+
+    /**
+     * Get the dense registry id of the player at a batting position
+     *
+     * @param position The zero based batting position
+     * @return int The dense id
+     */
+    int getPlayerIndex(int position) {
+        return this.playerIndexes[position];
+    }
+
+    /**
+     * Get the player name at a batting position
+     *
+     * @param position The zero based batting position
+     * @return String The player name
+     */
+    String getPlayerName(int position) {
+        return this.playerNames[position];
+    }
+
+    /**
+     * Get the outcome sampler of the player at a batting position
+     *
+     * @param position The zero based batting position
+     * @return AliasSampler The player's alias table over outcome indexes
+     */
+    AliasSampler getSampler(int position) {
+        return this.samplers[position];
+    }
+
+    /**
+     * Get the outcome probabilities of the player at a batting position
+     *
+     * @param position The zero based batting position
+     * @return double[] probability per outcome index, refer to BallOutcome.java. Must not be modified
+     */
+    double[] getOutcomeProbabilities(int position) {
+        return this.outcomeProbabilities[position];
+    }
+
+    /**
+     * Write the team name and, per batting position, the player id, name and outcome frequencies, so that another
+     * process can rebuild the lineup with readFrom() without the registry it was picked from.
+     *
+     * @param out The stream to write to
+     * @throws IOException if the stream can not be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(this.teamName);
+        out.writeShort(size());
+        for (int position = 0; position < size(); position++) {
+            out.writeUTF(this.playerIds[position]);
+            out.writeUTF(this.playerNames[position]);
+            for (int frequency : this.registry.getFrequencies(this.playerIndexes[position])) {
+                out.writeShort(frequency);
+            }
+        }
+    }
+
+    /**
+     * Rebuild a lineup written by writeTo(), on a registry of its own players only.
+     *
+     * @param in The stream to read from
+     * @return Lineup the same batting order with the same outcome frequencies
+     * @throws IOException if the stream can not be read
+     */
+    static Lineup readFrom(DataInput in) throws IOException {
+        String teamName = in.readUTF();
+        int[] playerIndexes = new int[in.readUnsignedShort()];
+        PlayerRegistry registry = PlayerRegistry.getInstance();
+        for (int position = 0; position < playerIndexes.length; position++) {
+            String playerId = in.readUTF();
+            String playerName = in.readUTF();
+            int[] frequencies = new int[BallOutcome.COUNT];
+            for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                frequencies[outcome] = in.readUnsignedShort();
+            }
+            registry.addPlayer(playerId, playerName, frequencies);
+            playerIndexes[position] = position;
+        }
+        return new Lineup(teamName, registry, playerIndexes);
+    }
+}
@@ -0,0 +1,270 @@
+package org.ipl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Win probability of an innings in progress, for asking again after every ball of a live match.
+ * A state is the batsmen at the crease, the batsmen still to come in, the balls left and the runs needed. The runs
+ * the two batsmen have already scored do not change the odds, because every ball is drawn from the player's fixed
+ * outcome distribution.
+ * The first query of an innings solves, with WinProbabilitySolver, every state with at most its balls left and runs
+ * needed, for its batsmen in the order striker, non-striker, yet to bat, and keeps the whole value table. Every later
+ * state of that innings is in the table: each ball lowers the balls left and the runs needed, and after a wicket the
+ * batsmen at the crease and those to come are still in the same order, with the new batsman at the next position.
+ * The tables are kept in an LRU cache under their whole batting order, and indexed under each batsman after the openers
+ * followed by the batsmen after him, which is how a later state finds its table: the batsman who came in last, then
+ * those yet to bat. So after the first ball every query is an array lookup, under a microsecond.
+ * A table takes 16 bytes x (balls left + 1) x (runs needed + 1) x players^2: about 45 MB for a 20 over chase of 200
+ * with 11 players, built once in about 0.1 s.
+ * Thread safe :- the cache is shared, tables never change once built, a miss is solved on the calling thread without
+ * holding the cache's lock. Concurrent misses for the same batting order wait for the one table being built.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class LiveWinProbability {
+
+    private final PlayerRegistry registry;
+    private final LruCache<BattingKey, ValueTable> cache;                  // by whole batting order
+    private final Map<BattingKey, ValueTable> suffixes = new ConcurrentHashMap<>();    // by last in, then yet to bat
+    private final Map<BattingKey, CompletableFuture<ValueTable>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private LiveWinProbability(PlayerRegistry registry, int cacheCapacity) {
+        this.registry = registry;
+        this.cache = new LruCache<>(cacheCapacity, this::unindex);
+    }
+
+    /**
+     * Returns the instance of LiveWinProbability class.
+     *
+     * @param registry      The registry the batting team picks its players from
+     * @param cacheCapacity The number of innings to keep a value table for. Must be greater than 0.
+     * @return LiveWinProbability An instance of LiveWinProbability class
+     * @throws IllegalArgumentException
+     */
+    public static LiveWinProbability getInstance(PlayerRegistry registry, int cacheCapacity) throws IllegalArgumentException {
+        if (cacheCapacity <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Cache_Size.toString());
+        }
+        return new LiveWinProbability(registry, cacheCapacity);
+    }
+
+    /**
+     * Get the win probability from a state of the innings.
+     *
+     * @param striker    The player id of the batsman on strike
+     * @param nonStriker The player id of the batsman at the other end
+     * @param yetToBat   The player ids still to come in, in batting order
+     * @param ballsLeft  The balls left in the innings. Overs end when this is a multiple of 6.
+     * @param runsNeeded The runs still needed to reach the target
+     * @return WinProbability the exact probabilities
+     * @throws IllegalArgumentException if a player is not registered or the balls left are negative
+     */
+    public WinProbability getWinProbability(String striker, String nonStriker, List<String> yetToBat, int ballsLeft, int runsNeeded) {
+        if (ballsLeft < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Balls_Left_Negative.toString());
+        }
+        if (runsNeeded <= 0) {
+            return new WinProbability(1, 0);
+        }
+        int[] battingOrder = new int[yetToBat.size() + 2];
+        battingOrder[0] = this.registry.indexOf(striker);
+        battingOrder[1] = this.registry.indexOf(nonStriker);
+        for (int i = 0; i < yetToBat.size(); i++) {
+            battingOrder[i + 2] = this.registry.indexOf(yetToBat.get(i));
+        }
+
+        BattingKey orderKey = new BattingKey(battingOrder);
+        while (true) {
+            WinProbability probability = lookup(battingOrder, ballsLeft, runsNeeded);
+            if (probability != null) {
+                this.hits.incrementAndGet();
+                return probability;
+            }
+
+            CompletableFuture<ValueTable> created = new CompletableFuture<>();
+            CompletableFuture<ValueTable> building = this.inFlight.putIfAbsent(orderKey, created);
+            if (building == null) {
+                this.misses.incrementAndGet();
+                try {
+                    ValueTable table = new ValueTable(orderKey, Lineup.getInstance("", this.registry, battingOrder), ballsLeft, runsNeeded);
+                    index(table);
+                    created.complete(table);
+                    return table.get(battingOrder[0], battingOrder[1], yetToBat.size(), ballsLeft, runsNeeded);
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    this.inFlight.remove(orderKey, created);
+                }
+            }
+
+            // Another thread is building this batting order's table; it may be too small for this state, or fail.
+            ValueTable table = building.handle((built, failure) -> built).join();
+            probability = table == null ? null : table.get(battingOrder[0], battingOrder[1], yetToBat.size(), ballsLeft, runsNeeded);
+            if (probability != null) {
+                this.hits.incrementAndGet();
+                return probability;
+            }
+        }
+    }
+
+    /**
+     * Find a cached table holding the state, marking it as recently used.
+     */
+    private WinProbability lookup(int[] battingOrder, int ballsLeft, int runsNeeded) {
+        // The batsman who came in last is either of the two at the crease.
+        for (int lastIn = 0; lastIn < 2; lastIn++) {
+            ValueTable table = this.suffixes.get(new BattingKey(battingOrder, lastIn));
+            if (table != null) {
+                WinProbability probability = table.get(battingOrder[0], battingOrder[1], battingOrder.length - 2, ballsLeft, runsNeeded);
+                if (probability != null) {
+                    this.cache.get(table.orderKey);
+                    return probability;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Index a new table under each batsman after the openers followed by the batsmen after him, then cache it. The
+     * index goes first so that an eviction, which unindexes, always comes after it.
+     */
+    private void index(ValueTable table) {
+        for (int position = 1; position < table.players; position++) {
+            this.suffixes.put(suffixKey(table, position), table);
+        }
+        this.cache.put(table.orderKey, table);
+    }
+
+    /**
+     * Drop an evicted table from the index, leaving the entries a newer table has taken over.
+     */
+    private void unindex(ValueTable table) {
+        for (int position = 1; position < table.players; position++) {
+            this.suffixes.remove(suffixKey(table, position), table);
+        }
+    }
+
+    private static BattingKey suffixKey(ValueTable table, int position) {
+        return new BattingKey(Arrays.copyOfRange(table.playerIndexes, position, table.players));
+    }
+
+    /**
+     * Get the number of queries answered from a cached value table
+     *
+     * @return long The cache hits
+     */
+    public long getCacheHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get the number of queries that had to build a value table
+     *
+     * @return long The cache misses
+     */
+    public long getCacheMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * The batsman who came in last followed by the batsmen yet to bat, in order, or a whole batting order.
+     */
+    private static final class BattingKey {
+        private final int[] playerIndexes;
+        private final int hash;
+
+        BattingKey(int[] playerIndexes) {
+            this.playerIndexes = playerIndexes;
+            this.hash = Arrays.hashCode(playerIndexes);
+        }
+
+        /**
+         * The key of a live state, @battingOrder being striker, non-striker and yet to bat, if @lastIn (0 for the
+         * striker, 1 for the non-striker) came in last.
+         */
+        BattingKey(int[] battingOrder, int lastIn) {
+            this(lastInFirst(battingOrder, lastIn));
+        }
+
+        private static int[] lastInFirst(int[] battingOrder, int lastIn) {
+            int[] playerIndexes = Arrays.copyOfRange(battingOrder, 1, battingOrder.length);
+            playerIndexes[0] = battingOrder[lastIn];
+            return playerIndexes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BattingKey && Arrays.equals(this.playerIndexes, ((BattingKey) other).playerIndexes);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Exact probabilities of every state of one batting order, up to the balls left and runs needed it was built for.
+     */
+    private static final class ValueTable {
+        private final BattingKey orderKey;                  // the whole batting order, the table's key in the cache
+        private final int[] playerIndexes;                  // batting order, refer to Lineup
+        private final int players;
+        private final int ballsLeft;
+        private final int runsNeeded;
+        private final double[][] win;                       // per balls left, refer to WinProbabilitySolver.solveLayers()
+        private final double[][] tie;
+
+        ValueTable(BattingKey orderKey, Lineup lineup, int ballsLeft, int runsNeeded) {
+            this.orderKey = orderKey;
+            this.players = lineup.size();
+            this.playerIndexes = new int[this.players];
+            for (int position = 0; position < this.players; position++) {
+                this.playerIndexes[position] = lineup.getPlayerIndex(position);
+            }
+            this.ballsLeft = ballsLeft;
+            this.runsNeeded = runsNeeded;
+            this.win = new double[ballsLeft + 1][];
+            this.tie = new double[ballsLeft + 1][];
+            WinProbabilitySolver.getInstance(lineup).solveLayers(ballsLeft, runsNeeded, this.win, this.tie);
+        }
+
+        /**
+         * Look up a state, null if it is not in this table: the batsmen yet to bat must be the last @yetToBat of the
+         * batting order, both batsmen at the crease before them, and the balls and runs within the table.
+         */
+        WinProbability get(int striker, int nonStriker, int yetToBat, int ballsLeft, int runsNeeded) {
+            if (ballsLeft > this.ballsLeft || runsNeeded > this.runsNeeded) {
+                return null;
+            }
+            int firstYetToBat = this.players - yetToBat;
+            int strikerPosition = positionOf(striker, firstYetToBat);
+            int nonStrikerPosition = positionOf(nonStriker, firstYetToBat);
+            if (strikerPosition < 0 || nonStrikerPosition < 0 || Math.max(strikerPosition, nonStrikerPosition) != firstYetToBat - 1) {
+                return null;
+            }
+            int state = (runsNeeded * this.players + strikerPosition) * this.players + nonStrikerPosition;
+            return new WinProbability(this.win[ballsLeft][state], this.tie[ballsLeft][state]);
+        }
+
+        private int positionOf(int playerIndex, int below) {
+            for (int position = 0; position < below; position++) {
+                if (this.playerIndexes[position] == playerIndex) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.ipl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bounded map that evicts the least recently used entry once it is full.
+ * Thread safe :- every access holds the cache's lock, which is only held for a hash lookup; compute values outside it.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class LruCache<K, V> {
+    private final Map<K, V> entries;
+
+    LruCache(int capacity) {
+        this(capacity, value -> {
+        });
+    }
+
+    /**
+     * @param capacity The number of entries to keep
+     * @param onEvict  Called with each evicted value, under the cache's lock
+     */
+    LruCache(int capacity, Consumer<V> onEvict) {
+        this.entries = new LinkedHashMap<>(Math.max(16, capacity * 4 / 3 + 1), 0.75f, true) {
+            static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                onEvict.accept(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get the cached value, marking it as recently used
+     *
+     * @param key The key
+     * @return V the value, null if it is not cached
+     */
+    synchronized V get(K key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Cache a value, evicting the least recently used entry if the cache is full
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    synchronized void put(K key, V value) {
+        this.entries.put(key, value);
+    }
+
+    /**
+     * Get the number of cached entries
+     *
+     * @return int The entry count, at most the capacity
+     */
+    synchronized int size() {
+        return this.entries.size();
+    }
+}
@@ -1,8 +1,13 @@
 package org.ipl;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents a Match in the tournament. Two teams participate in match.  This class simulates a single inning.
  * It is presumed that a team has already and set the target @targetScore.
+ * A match can be replayed on the same objects after reset(), so one preallocated Match and Team per thread can play
+ * any number of innings.
  * Not ThreadSafe
  * final :- can not be inherited, methods can not be overridden.
  *
@@ -20,19 +25,25 @@ public final class Match {
     private Player firstBatsman;
     private Player secondBatsman;
     private Player onStrikeBatsman;
+    private final MatchEventListener listener;          // receives the commentary and result events
+    private RandomGenerator random;                     // source of the ball outcomes, null for ThreadLocalRandom
+    private InningsObserver observer;                   // receives every delivery, null when nothing is logged
+    private long startNanos;                            // when startMatch() began, kept only with metrics on
+    private Metrics.MatchEndEvent endEvent;             // spans startMatch(), created only with metrics on
 
 
-    private Match(Team one, Team two, int targetScore, int overs) {
+    private Match(Team one, Team two, int targetScore, int overs, MatchEventListener listener) {
         this.a = one;
         this.b = two;
         this.targetScore = targetScore;
         this.overs = overs;
+        this.listener = listener;
     }
 
     /**
      * Returns the instance of Match class.
      *
-     * @param teamOne     This represent the batting team. Team must not be empty
+     * @param teamOne     This represent the batting team. Team must have at least two players
      * @param teamTwo     This represent the bowling team.
      * @param targetScore This is the target score set by the opponent team
      * @param overs       The numbers of overs. Must be greater than 0.
@@ -41,25 +52,75 @@ public final class Match {
      */
 
     public static Match getInstance(Team teamOne, Team teamTwo, int targetScore, int overs) throws IllegalArgumentException {
-        if (teamOne.isEmpty()) {
-            throw new IllegalArgumentException(teamOne.getTeamName() + CustomExceptionMessages.Has_No_Player.toString());
+        return getInstance(teamOne, teamTwo, targetScore, overs, TextMatchEventListener.getInstance(System.out));
+    }
+
+    /**
+     * Returns the instance of Match class reporting to a listener instead of printing the commentary.
+     *
+     * @param teamOne     This represent the batting team. Team must have at least two players
+     * @param teamTwo     This represent the bowling team.
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @param listener    Receives the ball, over, wicket and result events, e.g. NoOpMatchEventListener for headless runs
+     * @return Match      An instance of Match class
+     * @throws IllegalArgumentException
+     */
+    public static Match getInstance(Team teamOne, Team teamTwo, int targetScore, int overs, MatchEventListener listener) throws IllegalArgumentException {
+        if (teamOne.size() < 2) {
+            throw new IllegalArgumentException(teamOne.getTeamName() + " " + CustomExceptionMessages.Has_Less_Than_Two_Players);
         } else if (targetScore < 0) {
             throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Negative.toString());
         } else if (overs <= 0) {
             throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
-        } /*else if (teamTwo.isEmpty()) {
-            // throw new KPLException(teamTwo.getTeamName() + " has no player.");
-        }*/
+        }
 
-        return new Match(teamOne, teamTwo, targetScore, overs);
+        return new Match(teamOne, teamTwo, targetScore, overs, listener);
     }
 
     /**
-     * Send the pair of openers.
+     * Restore the match to its state before the first ball: the score is cleared and the batting team is reset to its
+     * original batting order, so startMatch() can be played again on the same objects.
+     */
+    public void reset() {
+        this.currentTeamScore = 0;
+        this.firstBatsman = null;
+        this.secondBatsman = null;
+        this.onStrikeBatsman = null;
+        this.a.reset();
+    }
+
+    /**
+     * Draw the ball outcomes from @random instead of ThreadLocalRandom, e.g. a SplittableRandom with a fixed seed to
+     * replay the same match.
+     *
+     * @param random The random source, used only by the thread playing the match. null restores ThreadLocalRandom.
+     */
+    public void setRandomGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Record every delivery of the match in a binary event log, refer to BallEventLog.java
      *
-     * @throws KPLException if no players available in team to play
+     * @param log The log, null to stop logging
+     * @throws IllegalArgumentException if the match has more overs than the log can record, 127, or a team's registry
+     *                                  more players, 2^19
+     */
+    public void setBallEventLog(BallEventLog log) {
+        if (log != null && this.overs > log.getMaxOvers()) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Overs_Out_Of_Range.toString());
+        }
+        if (log != null && Math.max(a.getRegistry().size(), b.getRegistry().size()) > BallEventLog.MAX_PLAYERS) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Players_Out_Of_Range.toString());
+        }
+        this.observer = log;
+    }
+
+    /**
+     * Send the pair of openers.
      */
-    private void sendOpeners() throws KPLException {
+    private void sendOpeners() {
         if (this.firstBatsman == null) {
             this.firstBatsman = a.getPlayer();
         }
@@ -69,11 +130,10 @@ public final class Match {
     }
 
     /**
-     * Replace the batsman after previous batsman retire from the field.
-     *
-     * @throws KPLException if no players available in team to play
+     * Replace the batsman after previous batsman retire from the field. The caller has checked that the team is not
+     * empty.
      */
-    private void replaceBatsman() throws KPLException {
+    private void replaceBatsman() {
         if (!this.firstBatsman.isPlayerNotOut()) {
             this.firstBatsman = a.getPlayer();
             this.onStrikeBatsman = this.firstBatsman;
@@ -96,154 +156,171 @@ public final class Match {
     }
 
     /**
-     * Prints the match summary after match has ended.
+     * Reports the match summary after match has ended.
      */
     private void printMatchResults() {
 
-        for (Player player : a.getPlayerStats()) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(player.getPlayerName()).append(" - ").append(player.getPlayerScore()).append(" (").append(player.getBallsPlayedCount()).append(" balls)");
-            System.out.println(sb.toString());
+        for (int i = 0; i < a.getPlayerStatsCount(); i++) {
+            Player player = a.getPlayerStats(i);
+            listener.batsmanSummary(player.getPlayerName(), player.getPlayerScore(), player.getBallsPlayedCount(), false);
+        }
+        if (this.firstBatsman.isPlayerNotOut()) {
+            listener.batsmanSummary(this.firstBatsman.getPlayerName(), this.firstBatsman.getPlayerScore(), this.firstBatsman.getBallsPlayedCount(), true);
+        }
+        if (this.secondBatsman.isPlayerNotOut()) {
+            listener.batsmanSummary(this.secondBatsman.getPlayerName(), this.secondBatsman.getPlayerScore(), this.secondBatsman.getBallsPlayedCount(), true);
+        }
+
+    }
+
+    /**
+     * Reports the end of the match to the listener and the event log.
+     */
+    private void endMatch() {
+        listener.matchEnded();
+        if (this.observer != null) {
+            this.observer.inningsEnded();
+        }
+        if (Metrics.ENABLED) {
+            recordMetrics();
+        }
+    }
+
+    /**
+     * Record the innings in Metrics and close the match end event.
+     */
+    private void recordMetrics() {
+        int deliveries = 0;
+        int wickets = a.getPlayerStatsCount();
+        for (int i = 0; i < wickets; i++) {
+            deliveries += a.getPlayerStats(i).getBallsPlayedCount();
         }
         if (this.firstBatsman.isPlayerNotOut()) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(this.firstBatsman.getPlayerName()).append(" - ").append(this.firstBatsman.getPlayerScore()).append("* (").append(this.firstBatsman.getBallsPlayedCount()).append(" balls)");
-            System.out.println(sb.toString());
+            deliveries += this.firstBatsman.getBallsPlayedCount();
         }
         if (this.secondBatsman.isPlayerNotOut()) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(this.secondBatsman.getPlayerName()).append(" - ").append(this.secondBatsman.getPlayerScore()).append("* (").append(this.secondBatsman.getBallsPlayedCount()).append(" balls)");
-            System.out.println(sb.toString());
+            deliveries += this.secondBatsman.getBallsPlayedCount();
         }
+        Metrics.inningsPlayed(deliveries, wickets, System.nanoTime() - this.startNanos);
+
+        this.endEvent.team = a.getTeamName();
+        this.endEvent.score = this.currentTeamScore;
+        this.endEvent.deliveries = deliveries;
+        this.endEvent.wickets = wickets;
+        this.endEvent.commit();
+        this.endEvent = null;
+    }
 
+    /**
+     * Note the start of the innings for Metrics and emit the match start event.
+     */
+    private void recordStart() {
+        this.startNanos = System.nanoTime();
+        Metrics.MatchStartEvent event = new Metrics.MatchStartEvent();
+        event.team = a.getTeamName();
+        event.target = this.targetScore;
+        event.overs = this.overs;
+        event.commit();
+        this.endEvent = new Metrics.MatchEndEvent();
+        this.endEvent.begin();
     }
 
     /**
      * Starts the match.
+     * Each ball is resolved from the BallOutcome tables indexed by the drawn outcome: the runs, whether the strike
+     * rotates and whether it is a wicket. The target is only checked after runs are scored, or on every ball for a
+     * target of 0, and the team only after a wicket.
      *
-     * @throws KPLException if the batting team has no players.
+     * @throws IllegalStateException if the batting team has been bowled out and not reset since.
      */
-    public void startMatch() throws KPLException {
+    public void startMatch() {
         if (a.isEmpty()) {
-            throw (new KPLException(a.getTeamName() + " " + CustomExceptionMessages.Has_No_Player));
+            throw new IllegalStateException(a.getTeamName() + " " + CustomExceptionMessages.Has_No_Player);
+        }
+        if (Metrics.ENABLED) {
+            recordStart();
         }
 
         sendOpeners();                                                  // Send openers on field
         this.onStrikeBatsman = this.firstBatsman;                       // First batsman on strike
 
-        int currentOver = 0;
+        RandomGenerator random = this.random != null ? this.random : ThreadLocalRandom.current();
 
         // Start playing overs
-        while (currentOver < this.overs) {
-
-            // Print commentary
-            StringBuilder sb = new StringBuilder();
-            sb.append("\n").append((this.overs - currentOver)).append(" overs left. ").append((this.targetScore - this.currentTeamScore)).append(" runs to win.");
-            System.out.println(sb.toString());
+        for (int currentOver = 0; currentOver < this.overs; currentOver++) {
 
-            int currentBallCount = 1;
+            // Report commentary
+            listener.overStarted(this.overs - currentOver, this.targetScore - this.currentTeamScore);
 
             // Start playing balls
-            while (currentBallCount <= 6) {
-                // Get the weighted random output for the ball played by onStrikeBatsman.
-                // @ballOutcome==(-1) represents player has been bowled out
-                int ballOutcome = this.onStrikeBatsman.playBall();
-
-                // Increment the balls played by onStrikeBatsman by +1
-                onStrikeBatsman.incrementBallsPlayedCount();
-                if (ballOutcome != -1) {
-
-                    // Increment the on strike batsman score and team score
-                    onStrikeBatsman.incrementScore(ballOutcome);
-                    this.currentTeamScore += ballOutcome;
+            for (int currentBallCount = 1; currentBallCount <= 6; currentBallCount++) {
+                Player striker = this.onStrikeBatsman;
+                int outcome = striker.playOutcome(random);
+                if (this.observer != null) {
+                    this.observer.deliveryPlayed(currentOver, currentBallCount, striker.getPlayerIndex(), outcome);
                 }
 
-                switch (ballOutcome) {
-
-                    case 0:
-                    case 2:
-                    case 4:
-                    case 6:
-                        String runPlurality = ballOutcome == 0 ? " run" : " runs";
-
-                        // Print commentary
-                        sb = new StringBuilder();
-                        sb.append(currentOver).append(".").append(currentBallCount).append(" ").append(onStrikeBatsman.getPlayerName()).append(" scores ").append(ballOutcome).append(runPlurality);
-                        System.out.println(sb.toString());
+                // Increment the balls played by the striker by +1
+                striker.incrementBallsPlayedCount();
 
-                        break;
-                    case 1:
-                    case 3:
-                    case 5:
-                        runPlurality = ballOutcome == 1 ? " run" : " runs";
+                int runs = BallOutcome.RUNS[outcome];
+                if (!BallOutcome.WICKET[outcome]) {
+                    striker.incrementScore(runs);
+                    this.currentTeamScore += runs;
 
-                        // Print commentary
-                        sb = new StringBuilder();
-                        sb.append(currentOver).append(".").append(currentBallCount).append(" ").append(onStrikeBatsman.getPlayerName()).append(" scores ").append(ballOutcome).append(runPlurality);
-                        System.out.println(sb.toString());
+                    // Report commentary
+                    listener.ballPlayed(currentOver, currentBallCount, striker.getPlayerName(), runs);
 
-                        // Switch strike after on strike bats man has scored odd run/runs.
+                    // Switch strike after on strike bats man has scored odd run/runs.
+                    if (BallOutcome.ROTATES[outcome]) {
                         rotateStrike();
-                        break;
+                    }
+                } else {
+                    // Player has has been bowled out.
+                    striker.retireBatsman();
 
-                    case -1:
-                        // Player has has been bowled out.
-                        onStrikeBatsman.retireBatsman();
+                    // Report commentary
+                    listener.wicketFell(currentOver, currentBallCount, striker.getPlayerName());
 
-                        // Print commentary
-                        sb = new StringBuilder();
-                        sb.append(currentOver).append(".").append(currentBallCount).append(" ").append(onStrikeBatsman.getPlayerName()).append(" bowled out");
-                        System.out.println(sb.toString());
+                    //add player statistics for match summary
+                    a.addPlayerStats(striker);
 
-                        //add player statistics for match summary
-                        a.addPlayerStats(onStrikeBatsman);
+                    // Check if any more players left in the team
+                    if (a.isEmpty()) {
 
-                        // Check if any more players left in the team
-                        if (a.isEmpty()) {
-
-                            // No players left, match has ended
-                            sb = new StringBuilder();
-                            sb.append("\n").append(a.getTeamName()).append(" lost the match by ").append(this.targetScore - this.currentTeamScore).append(" runs");
-                            System.out.println(sb.toString());
-
-                            // Print match summary.
-                            printMatchResults();
-                            return;
-                        }
-                        replaceBatsman();
-                        break;
-                    default:
-                        throw new RuntimeException(CustomExceptionMessages.Invalid_Ball_Outcome.toString());
+                        // No players left, match has ended
+                        listener.allOut(a.getTeamName(), this.targetScore - this.currentTeamScore);
 
+                        // Print match summary.
+                        printMatchResults();
+                        endMatch();
+                        return;
+                    }
+                    replaceBatsman();
                 }
 
-                currentBallCount = currentBallCount + 1;
-                // Check if target score achieved
-                if (this.targetScore <= this.currentTeamScore) {
+                // Check if target score achieved, dot balls and wickets can only reach a target of 0
+                if ((runs != 0 || this.targetScore == 0) && this.targetScore <= this.currentTeamScore) {
 
-                    //Team won the match, print commentary
-                    sb = new StringBuilder();
-                    sb.append("\n").append(a.getTeamName()).append(" won by ").append(a.getNotBowledOutPlayerCount()).append(" wicket and ").append((this.overs - currentOver - 1) * 6 + (6 - currentBallCount + 1)).append(" balls remaining");
-                    System.out.println(sb.toString());
+                    //Team won the match, report commentary
+                    listener.matchWon(a.getTeamName(), a.getNotBowledOutPlayerCount(), (this.overs - currentOver - 1) * 6 + (6 - currentBallCount));
 
                     printMatchResults();
+                    endMatch();
                     return;
                 }
             }
             // Rotate strike after over end
             rotateStrike();
-            currentOver++;
-
         }
         // Check for a tie.
         if (this.targetScore - 1 == this.currentTeamScore) {
-            System.out.println("Match was a tie");
+            listener.matchTied();
         } else {
 
-            // Print commentary
-            StringBuilder sb = new StringBuilder();
-            sb.append(a.getTeamName()).append(" lost  by ").append(this.targetScore - this.currentTeamScore).append(" runs");
-            System.out.println(sb.toString());
+            // Report commentary
+            listener.oversCompleted(a.getTeamName(), this.targetScore - this.currentTeamScore);
         }
+        endMatch();
     }
 }
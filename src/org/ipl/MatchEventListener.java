@@ -0,0 +1,87 @@
+package org.ipl;
+
+/**
+ * Receives the events of an innings played by Match.startMatch(). Events carry only primitives and names already held
+ * by the players, so a listener that ignores them costs no string formatting and no I/O.
+ * Events arrive in play order: overStarted, then ballPlayed or wicketFell for every delivery, then exactly one of
+ * matchWon, allOut, oversCompleted or matchTied, then batsmanSummary for each batsman when the match summary is
+ * printed, and finally matchEnded.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public interface MatchEventListener {
+
+    /**
+     * A new over is about to be bowled.
+     *
+     * @param oversLeft The number of overs left, including this one
+     * @param runsToWin The runs still needed to reach the target
+     */
+    void overStarted(int oversLeft, int runsToWin);
+
+    /**
+     * A delivery was played without losing a wicket.
+     *
+     * @param over       The zero based over number
+     * @param ball       The ball number in the over, 1 to 6
+     * @param playerName The batsman on strike
+     * @param runs       The runs scored off the ball
+     */
+    void ballPlayed(int over, int ball, String playerName, int runs);
+
+    /**
+     * The batsman on strike was bowled out.
+     *
+     * @param over       The zero based over number
+     * @param ball       The ball number in the over, 1 to 6
+     * @param playerName The batsman bowled out
+     */
+    void wicketFell(int over, int ball, String playerName);
+
+    /**
+     * The batting team reached the target.
+     *
+     * @param teamName       The batting team
+     * @param wickets        The wicket count reported in the result line
+     * @param ballsRemaining The balls left in the innings
+     */
+    void matchWon(String teamName, int wickets, int ballsRemaining);
+
+    /**
+     * The batting team ran out of batsmen before reaching the target.
+     *
+     * @param teamName  The batting team
+     * @param runsShort The runs still needed to reach the target
+     */
+    void allOut(String teamName, int runsShort);
+
+    /**
+     * The overs ran out with the batting team more than one run short of the target.
+     *
+     * @param teamName  The batting team
+     * @param runsShort The runs still needed to reach the target
+     */
+    void oversCompleted(String teamName, int runsShort);
+
+    /**
+     * The overs ran out with the batting team exactly one run short of the target.
+     */
+    void matchTied();
+
+    /**
+     * Summary line of a batsman who batted in the innings.
+     *
+     * @param playerName The batsman
+     * @param runs       The runs scored
+     * @param balls      The balls faced
+     * @param notOut     True, if the batsman was still at the crease at the end
+     */
+    void batsmanSummary(String playerName, int runs, int balls, boolean notOut);
+
+    /**
+     * The innings has ended and no more events will arrive for it.
+     */
+    void matchEnded();
+}
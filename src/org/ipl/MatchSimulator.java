@@ -0,0 +1,441 @@
+package org.ipl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Monte Carlo engine for a chase. Plays the same innings as Match.startMatch() many times, headless, across a
+ * fork-join pool, and returns the aggregated SimulationResult.
+ * A seeded run is reproducible: innings number i always draws from stream i of the seed, refer to StreamRandom.java,
+ * and the aggregates are exact integer sums, so the same seed gives the same result on 1 thread or 64.
+ * The batting order is copied from the team when the simulator is created; the team itself is never consumed, so the
+ * same Team can keep being used to start a Match.
+ * Thread safe :- the simulator is immutable, every worker plays on its own Innings instance.
+ * final :- can not be inherited, methods can not be overridden.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class MatchSimulator {
+
+    private static final int MIN_INNINGS_PER_TASK = 1024;   // below this, splitting costs more than it saves
+    private static final long ESTIMATE_BATCH = 1 << 14;     // adaptive runs play whole batches of innings
+    private static final long FIRST_ESTIMATE_ROUND = 4 * ESTIMATE_BATCH;
+
+    private final Lineup lineup;
+    private final int targetScore;
+    private final int overs;
+
+    private MatchSimulator(Lineup lineup, int targetScore, int overs) {
+        this.lineup = lineup;
+        this.targetScore = targetScore;
+        this.overs = overs;
+    }
+
+    /**
+     * Returns the instance of MatchSimulator class.
+     *
+     * @param battingTeam This represent the batting team. Team must have at least two players
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @return MatchSimulator An instance of MatchSimulator class
+     * @throws IllegalArgumentException
+     */
+    public static MatchSimulator getInstance(Team battingTeam, int targetScore, int overs) throws IllegalArgumentException {
+        return getInstance(battingTeam.getLineup(), targetScore, overs);
+    }
+
+    /**
+     * Returns the instance of MatchSimulator class for a batting order snapshot.
+     *
+     * @param lineup      The batting order. Must have at least two players
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @return MatchSimulator An instance of MatchSimulator class
+     * @throws IllegalArgumentException
+     */
+    static MatchSimulator getInstance(Lineup lineup, int targetScore, int overs) throws IllegalArgumentException {
+        if (lineup.size() < 2) {
+            throw new IllegalArgumentException(lineup.getTeamName() + " " + CustomExceptionMessages.Has_Less_Than_Two_Players);
+        } else if (targetScore < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Negative.toString());
+        } else if (overs <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        }
+        return new MatchSimulator(lineup, targetScore, overs);
+    }
+
+    /**
+     * Simulate innings on the common fork-join pool.
+     *
+     * @param innings The number of innings to play. Must not be negative.
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings) {
+        return simulate(innings, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulate innings on the given fork-join pool.
+     *
+     * @param innings The number of innings to play. Must not be negative.
+     * @param pool    The pool to run on, its parallelism decides how many innings are played at once
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings, ForkJoinPool pool) {
+        return simulate(innings, false, 0, pool, null);
+    }
+
+    /**
+     * Simulate innings on the given fork-join pool, adding every delivery to @statistics as it is played.
+     *
+     * @param innings    The number of innings to play. Must not be negative.
+     * @param pool       The pool to run on, its parallelism decides how many innings are played at once
+     * @param statistics The per player statistics to update, built on the batting team's registry
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings, ForkJoinPool pool, PlayerStatistics statistics) {
+        return simulate(innings, false, 0, pool, statistics);
+    }
+
+    /**
+     * Simulate innings reproducibly on the common fork-join pool.
+     *
+     * @param innings The number of innings to play. Must not be negative.
+     * @param seed    The root seed, the same seed always gives the same result
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings, long seed) {
+        return simulate(innings, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulate innings reproducibly on the given fork-join pool. The result does not depend on the pool's parallelism.
+     *
+     * @param innings The number of innings to play. Must not be negative.
+     * @param seed    The root seed, the same seed always gives the same result
+     * @param pool    The pool to run on, its parallelism decides how many innings are played at once
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings, long seed, ForkJoinPool pool) {
+        return simulate(innings, true, seed, pool, null);
+    }
+
+    /**
+     * Simulate innings reproducibly on the given fork-join pool, adding every delivery to @statistics as it is played.
+     *
+     * @param innings    The number of innings to play. Must not be negative.
+     * @param seed       The root seed, the same seed always gives the same result
+     * @param pool       The pool to run on, its parallelism decides how many innings are played at once
+     * @param statistics The per player statistics to update, built on the batting team's registry
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult simulate(long innings, long seed, ForkJoinPool pool, PlayerStatistics statistics) {
+        return simulate(innings, true, seed, pool, statistics);
+    }
+
+    /**
+     * Estimate the win probability on the common fork-join pool, playing only as many innings as the precision needs.
+     *
+     * @param halfWidth   The precision wanted, half the width of the confidence interval, e.g. 0.001 for +-0.1%
+     * @param confidence  The confidence level of the interval, between 0 and 1 exclusive, e.g. 0.99
+     * @param maxInnings  The most innings to play if the precision is not reached sooner. Must be greater than 0.
+     * @return WinEstimate the estimate, with the interval achieved and the innings played
+     * @throws IllegalArgumentException
+     */
+    public WinEstimate estimate(double halfWidth, double confidence, long maxInnings) throws IllegalArgumentException {
+        return estimate(halfWidth, confidence, maxInnings, false, 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Estimate the win probability reproducibly on the given fork-join pool, playing only as many innings as the
+     * precision needs. Innings are played in rounds of whole batches with innings number i drawing from stream i of
+     * @seed, and each round's size depends only on the results so far, so the same seed stops after the same innings
+     * with the same estimate on any number of threads.
+     *
+     * @param halfWidth   The precision wanted, half the width of the confidence interval, e.g. 0.001 for +-0.1%
+     * @param confidence  The confidence level of the interval, between 0 and 1 exclusive, e.g. 0.99
+     * @param maxInnings  The most innings to play if the precision is not reached sooner. Must be greater than 0.
+     * @param seed        The root seed, the same seed always gives the same estimate
+     * @param pool        The pool to run on, its parallelism decides how many innings are played at once
+     * @return WinEstimate the estimate, with the interval achieved and the innings played
+     * @throws IllegalArgumentException
+     */
+    public WinEstimate estimate(double halfWidth, double confidence, long maxInnings, long seed, ForkJoinPool pool) throws IllegalArgumentException {
+        return estimate(halfWidth, confidence, maxInnings, true, seed, pool);
+    }
+
+    private WinEstimate estimate(double halfWidth, double confidence, long maxInnings, boolean seeded, long seed, ForkJoinPool pool) {
+        if (!(halfWidth > 0 && halfWidth < 1)) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Precision.toString());
+        } else if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Confidence.toString());
+        } else if (maxInnings <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        }
+        double z = WinEstimate.zScore(confidence);
+        SimulationResult total = null;
+        WinEstimate estimate;
+        long round = Math.min(FIRST_ESTIMATE_ROUND, maxInnings);
+        while (true) {
+            long played = total == null ? 0 : total.getInnings();
+            SimulationResult result = simulate(played, round, seeded, seed, null, pool, null);
+            total = total == null ? result : total.merge(result);
+            estimate = new WinEstimate(total, confidence);
+            played = total.getInnings();
+            if (estimate.getHalfWidth() <= halfWidth || played >= maxInnings) {
+                return estimate;
+            }
+            // Innings the normal approximation says are needed, with a tenth more to avoid a last tiny round.
+            double p = total.getWinProbability();
+            double variance = Math.max(p * (1 - p), 1.0 / played);
+            double needed = 1.1 * z * z * variance / (halfWidth * halfWidth) - played;
+            long batches = (long) Math.ceil(Math.min(needed, (double) maxInnings) / ESTIMATE_BATCH);
+            round = Math.min(Math.max(1, batches) * ESTIMATE_BATCH, maxInnings - played);
+        }
+    }
+
+    /**
+     * Estimate the win probability reproducibly from a fixed number of innings with a variance reduction mode on the
+     * common fork-join pool, refer to SamplingMode.java.
+     *
+     * @param innings The number of innings to play. Must be greater than 0.
+     * @param mode    How the innings are drawn
+     * @param seed    The root seed, the same seed always gives the same estimate
+     * @return VarianceReducedEstimate the estimate with its standard error and effective sample size
+     * @throws IllegalArgumentException
+     */
+    public VarianceReducedEstimate estimate(long innings, SamplingMode mode, long seed) throws IllegalArgumentException {
+        return estimate(innings, mode, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Estimate the win probability reproducibly from a fixed number of innings with a variance reduction mode on the
+     * given fork-join pool, refer to SamplingMode.java. Antithetic innings are played in pairs and stratified innings
+     * are allocated to strata in proportion to their chance with at least 2 each, so the innings played may differ
+     * slightly from @innings. The estimate does not depend on the pool's parallelism.
+     *
+     * @param innings The number of innings to play. Must be greater than 0.
+     * @param mode    How the innings are drawn
+     * @param seed    The root seed, the same seed always gives the same estimate
+     * @param pool    The pool to run on, its parallelism decides how many innings are played at once
+     * @return VarianceReducedEstimate the estimate with its standard error and effective sample size
+     * @throws IllegalArgumentException
+     */
+    public VarianceReducedEstimate estimate(long innings, SamplingMode mode, long seed, ForkJoinPool pool) throws IllegalArgumentException {
+        if (innings <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        } else if (mode == null) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Sampling_Mode.toString());
+        }
+        return new VarianceReducedSimulation(this.lineup, this.targetScore, this.overs, mode).run(innings, seed, pool);
+    }
+
+    /**
+     * Simulate innings reproducibly on the common fork-join pool and keep every one of them in a columnar file,
+     * refer to InningsStore.java.
+     *
+     * @param innings The number of innings to play. Must be greater than 0.
+     * @param seed    The root seed, innings i is the one simulate() plays from stream i of it
+     * @param file    The store file, created or truncated
+     * @return InningsStore the store, open for scans
+     * @throws IOException              if the file can not be written
+     * @throws IllegalArgumentException if the lineup has more than 16 players or the innings more than 127 overs
+     */
+    public InningsStore record(long innings, long seed, Path file) throws IOException {
+        return record(innings, seed, file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulate innings reproducibly on the given fork-join pool and keep every one of them in a columnar file,
+     * refer to InningsStore.java. Innings are played in blocks of 65536 in memory and each block is written out column
+     * by column, so the heap used does not grow with @innings.
+     *
+     * @param innings The number of innings to play. Must be greater than 0.
+     * @param seed    The root seed, innings i is the one simulate() plays from stream i of it
+     * @param file    The store file, created or truncated
+     * @param pool    The pool to run on, its parallelism decides how many innings are played at once
+     * @return InningsStore the store, open for scans
+     * @throws IOException              if the file can not be written
+     * @throws IllegalArgumentException if the lineup has more than 16 players or the innings more than 127 overs
+     */
+    public InningsStore record(long innings, long seed, Path file, ForkJoinPool pool) throws IOException {
+        return InningsStore.write(this.lineup, this.targetScore, this.overs, innings, seed, file, pool);
+    }
+
+    /**
+     * Play the first balls of one innings reproducibly and stop, to simulate continuations from that ball with
+     * InningsSnapshot.simulate().
+     *
+     * @param balls The number of balls to play. Must not be negative.
+     * @param seed  The seed, the innings draws from stream 0 of it
+     * @return InningsSnapshot the state after @balls balls, or at the end of the innings if it ends sooner
+     */
+    public InningsSnapshot playTo(int balls, long seed) {
+        if (balls < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Balls_Left_Negative.toString());
+        }
+        Innings innings = new Innings(this.lineup, this.targetScore, this.overs);
+        StreamRandom random = new StreamRandom(seed, 0);
+        while (innings.getResult() < 0 && innings.getBallsBowled() < balls) {
+            innings.playBall(this.lineup.getSampler(innings.getStriker()).sample(random));
+        }
+        return innings.snapshot();
+    }
+
+    /**
+     * Play innings on from @start, refer to InningsSnapshot.simulate()
+     */
+    SimulationResult simulate(long innings, InningsSnapshot start, ForkJoinPool pool) {
+        return simulate(innings, false, 0, start, pool, null);
+    }
+
+    /**
+     * Play innings on from @start reproducibly, refer to InningsSnapshot.simulate()
+     */
+    SimulationResult simulate(long innings, long seed, InningsSnapshot start, ForkJoinPool pool) {
+        return simulate(innings, true, seed, start, pool, null);
+    }
+
+    private SimulationResult simulate(long innings, boolean seeded, long seed, ForkJoinPool pool, PlayerStatistics statistics) {
+        return simulate(0, innings, seeded, seed, null, pool, statistics);
+    }
+
+    private SimulationResult simulate(long innings, boolean seeded, long seed, InningsSnapshot start, ForkJoinPool pool,
+                                      PlayerStatistics statistics) {
+        return simulate(0, innings, seeded, seed, start, pool, statistics);
+    }
+
+    /**
+     * Play innings number @first to @first + @innings - 1 of a seeded run, e.g. one slice handed to a ShardWorker.
+     * The slices of a run merge to the result of simulate(innings, seed).
+     */
+    SimulationResult simulate(long first, long innings, long seed, ForkJoinPool pool) {
+        return simulate(first, innings, true, seed, null, pool, null);
+    }
+
+    /**
+     * Get the batting order the simulator plays
+     *
+     * @return Lineup The lineup
+     */
+    Lineup getLineup() {
+        return this.lineup;
+    }
+
+    /**
+     * Get the target chased
+     *
+     * @return int The target score
+     */
+    int getTargetScore() {
+        return this.targetScore;
+    }
+
+    /**
+     * Get the overs of the innings
+     *
+     * @return int The overs
+     */
+    int getOvers() {
+        return this.overs;
+    }
+
+    /**
+     * Play innings number @first to @first + @innings - 1, so that a seeded run can be continued where it stopped.
+     */
+    private SimulationResult simulate(long first, long innings, boolean seeded, long seed, InningsSnapshot start, ForkJoinPool pool,
+                                      PlayerStatistics statistics) {
+        if (innings < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Innings_Count_Negative.toString());
+        }
+        // Aim for a few tasks per worker so that idle workers can steal.
+        long grain = Math.max(MIN_INNINGS_PER_TASK, innings / (pool.getParallelism() * 8L));
+        return pool.invoke(new SimulationTask(first, innings, grain, seeded, seed, start, statistics));
+    }
+
+    /**
+     * Plays a contiguous slice of the innings, halving it until it is small enough to run on one worker.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+        static final long serialVersionUID = 1L;
+
+        private final long first;                           // number of the first innings in the slice
+        private final long innings;
+        private final long grain;
+        private final boolean seeded;
+        private final long seed;
+        private final InningsSnapshot start;                // state every innings starts from, null for the first ball
+        private final PlayerStatistics statistics;          // null when not collected
+
+        SimulationTask(long first, long innings, long grain, boolean seeded, long seed, InningsSnapshot start, PlayerStatistics statistics) {
+            this.first = first;
+            this.innings = innings;
+            this.grain = grain;
+            this.seeded = seeded;
+            this.seed = seed;
+            this.start = start;
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (this.innings <= this.grain) {
+                return this.seeded ? playSeeded() : play();
+            }
+            long half = this.innings / 2;
+            SimulationTask left = new SimulationTask(this.first, half, this.grain, this.seeded, this.seed, this.start, this.statistics);
+            left.fork();
+            SimulationResult right = new SimulationTask(this.first + half, this.innings - half, this.grain, this.seeded, this.seed, this.start, this.statistics).compute();
+            return right.merge(left.join());
+        }
+
+        private Innings newInnings() {
+            Innings current = new Innings(lineup, targetScore, overs);
+            if (this.statistics != null) {
+                current.setObserver(this.statistics.getRecorder());
+            }
+            return current;
+        }
+
+        /**
+         * Bring @current back to the first ball, or to the snapshot the continuations fork from.
+         */
+        private void rewind(Innings current) {
+            if (this.start == null) {
+                current.reset();
+            } else {
+                current.restore(this.start);
+            }
+        }
+
+        private SimulationResult play() {
+            SimulationResult result = new SimulationResult(lineup, overs);
+            Innings current = newInnings();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (long i = 0; i < this.innings; i++) {
+                rewind(current);
+                current.play(random);
+                result.record(current);
+            }
+            return result;
+        }
+
+        private SimulationResult playSeeded() {
+            SimulationResult result = new SimulationResult(lineup, overs);
+            Innings current = newInnings();
+            StreamRandom random = new StreamRandom(this.seed, this.first);
+            for (long i = this.first; i < this.first + this.innings; i++) {
+                random.reseed(this.seed, i);
+                rewind(current);
+                current.play(random);
+                result.record(current);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.ipl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * Opt-in instrumentation of the hot paths: deliveries, wickets and innings counters, a histogram of innings
+ * durations, and JDK Flight Recorder events for match start and end and for sampler calls.
+ * Metrics are switched on for the whole JVM with -Dkpl.metrics=true. The switch is a static final constant, so with
+ * metrics off the JIT folds every guarded block away and the hot paths run exactly as uninstrumented code; the JFR
+ * events are only created when metrics are on, and are then recorded when a recording enables them.
+ * Counters are LongAdders and the histogram an AtomicLongArray, so any number of simulating threads can record
+ * while snapshot() is polled.
+ * Thread safe :- all state is in atomic counters.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class Metrics {
+
+    static final boolean ENABLED = Boolean.getBoolean("kpl.metrics");
+
+    static final int SUB_BUCKET_BITS = 5;                   // 32 buckets per power of two, under 3.2% relative error
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final LongAdder deliveries = new LongAdder();
+    private static final LongAdder wickets = new LongAdder();
+    private static final LongAdder innings = new LongAdder();
+    private static final LongAdder inningsNanos = new LongAdder();
+    private static final AtomicLongArray latency = new AtomicLongArray(BUCKETS);     // innings count per duration bucket
+
+    private Metrics() {
+    }
+
+    /**
+     * Whether the JVM was started with -Dkpl.metrics=true
+     *
+     * @return boolean True, if metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Read the counters and the latency histogram as they are now. Counters keep running, so two snapshots give the
+     * rates over the time between them.
+     *
+     * @return MetricsSnapshot the current values, all zero when metrics are off
+     */
+    public static MetricsSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = latency.get(bucket);
+        }
+        return new MetricsSnapshot(System.nanoTime(), deliveries.sum(), wickets.sum(), innings.sum(), inningsNanos.sum(), counts);
+    }
+
+    /**
+     * Record a finished innings. Callers guard the call with ENABLED.
+     *
+     * @param balls       The deliveries bowled
+     * @param fallen      The wickets fallen
+     * @param elapsedNanos How long the innings took to play
+     */
+    static void inningsPlayed(int balls, int fallen, long elapsedNanos) {
+        deliveries.add(balls);
+        wickets.add(fallen);
+        innings.increment();
+        inningsNanos.add(elapsedNanos);
+        latency.getAndIncrement(bucketOf(elapsedNanos));
+    }
+
+    /**
+     * Draw an outcome index from @sampler inside a SamplerCallEvent. Callers guard the call with ENABLED.
+     *
+     * @param sampler     The batsman's alias table
+     * @param playerIndex The dense id of the batsman, recorded with the event
+     * @param random      The random source
+     * @return int The outcome index, refer to BallOutcome.java
+     */
+    static int sample(AliasSampler sampler, int playerIndex, RandomGenerator random) {
+        SamplerCallEvent event = new SamplerCallEvent();
+        event.begin();
+        int outcome = sampler.sample(random);
+        event.playerIndex = playerIndex;
+        event.outcome = outcome;
+        event.commit();
+        return outcome;
+    }
+
+    /**
+     * Log-linear bucket of @value: exact below SUB_BUCKETS, then SUB_BUCKETS buckets for every power of two.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(0, value);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);                  // >= SUB_BUCKET_BITS
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Smallest value that falls in @bucket
+     */
+    static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Emitted when Match.startMatch() sends the openers in.
+     */
+    @Name("org.ipl.MatchStart")
+    @Label("Match Start")
+    @Category("KPL")
+    @StackTrace(false)
+    static final class MatchStartEvent extends Event {
+        @Label("Team")
+        String team;
+
+        @Label("Target")
+        int target;
+
+        @Label("Overs")
+        int overs;
+    }
+
+    /**
+     * Spans a whole Match.startMatch(), from the openers to the result.
+     */
+    @Name("org.ipl.MatchEnd")
+    @Label("Match End")
+    @Category("KPL")
+    @StackTrace(false)
+    static final class MatchEndEvent extends Event {
+        @Label("Team")
+        String team;
+
+        @Label("Score")
+        int score;
+
+        @Label("Deliveries")
+        int deliveries;
+
+        @Label("Wickets")
+        int wickets;
+    }
+
+    /**
+     * Spans one draw of a ball outcome from a player's alias table.
+     */
+    @Name("org.ipl.SamplerCall")
+    @Label("Sampler Call")
+    @Description("One ball outcome drawn for the batsman on strike")
+    @Category("KPL")
+    @StackTrace(false)
+    static final class SamplerCallEvent extends Event {
+        @Label("Player Index")
+        int playerIndex;
+
+        @Label("Outcome")
+        int outcome;
+    }
+}
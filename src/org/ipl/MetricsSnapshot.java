@@ -0,0 +1,133 @@
+package org.ipl;
+
+/**
+ * The metrics counters and innings latency histogram at one moment, refer to Metrics.java.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class MetricsSnapshot {
+    private final long timestampNanos;                      // System.nanoTime() when taken
+    private final long deliveries;
+    private final long wickets;
+    private final long innings;
+    private final long inningsNanos;                        // total duration of the innings
+    private final long[] latencyCounts;                     // innings count per Metrics bucket
+
+    MetricsSnapshot(long timestampNanos, long deliveries, long wickets, long innings, long inningsNanos, long[] latencyCounts) {
+        this.timestampNanos = timestampNanos;
+        this.deliveries = deliveries;
+        this.wickets = wickets;
+        this.innings = innings;
+        this.inningsNanos = inningsNanos;
+        this.latencyCounts = latencyCounts;
+    }
+
+    /**
+     * Get the System.nanoTime() at which the snapshot was taken
+     *
+     * @return long The timestamp in nanoseconds
+     */
+    public long getTimestampNanos() {
+        return this.timestampNanos;
+    }
+
+    /**
+     * Get the deliveries bowled in all innings played so far
+     *
+     * @return long The deliveries
+     */
+    public long getDeliveries() {
+        return this.deliveries;
+    }
+
+    /**
+     * Get the wickets fallen in all innings played so far
+     *
+     * @return long The wickets
+     */
+    public long getWickets() {
+        return this.wickets;
+    }
+
+    /**
+     * Get the number of innings played so far
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the deliveries bowled per second between @earlier and this snapshot
+     *
+     * @param earlier A snapshot taken before this one
+     * @return double The balls per second, 0 if no time has passed
+     */
+    public double getDeliveriesPerSecond(MetricsSnapshot earlier) {
+        long elapsed = this.timestampNanos - earlier.timestampNanos;
+        return elapsed <= 0 ? 0 : (this.deliveries - earlier.deliveries) * 1e9 / elapsed;
+    }
+
+    /**
+     * Get the mean duration of an innings
+     *
+     * @return double The mean in nanoseconds, 0 if no innings has been played
+     */
+    public double getMeanInningsNanos() {
+        return this.innings == 0 ? 0 : (double) this.inningsNanos / this.innings;
+    }
+
+    /**
+     * Get a percentile of the innings durations, to within the histogram's relative error of 1 / 32
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return long The lowest duration of the bucket holding the percentile in nanoseconds, 0 if no innings has been
+     * played
+     */
+    public long getInningsNanosPercentile(double percentile) {
+        long total = 0;
+        for (long count : this.latencyCounts) {
+            total += count;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < this.latencyCounts.length; bucket++) {
+            seen += this.latencyCounts[bucket];
+            if (seen >= rank) {
+                return Metrics.lowestValueOf(bucket);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the innings duration histogram
+     *
+     * @return long[] a new array of innings counts, index i counts durations from getBucketLowestNanos(i) up to the
+     * next bucket's lowest value
+     */
+    public long[] getInningsLatencyCounts() {
+        return this.latencyCounts.clone();
+    }
+
+    /**
+     * Get the lowest duration counted in a bucket of the histogram
+     *
+     * @param bucket The bucket index of getInningsLatencyCounts()
+     * @return long The duration in nanoseconds
+     */
+    public static long getBucketLowestNanos(int bucket) {
+        return Metrics.lowestValueOf(bucket);
+    }
+
+    @Override
+    public String toString() {
+        return "innings " + this.innings + ", deliveries " + this.deliveries + ", wickets " + this.wickets
+                + ", innings ns mean " + Math.round(getMeanInningsNanos()) + " p50 " + getInningsNanosPercentile(50)
+                + " p99 " + getInningsNanosPercentile(99);
+    }
+}
@@ -0,0 +1,62 @@
+package org.ipl;
+
+/**
+ * Listener that ignores every event, for headless matches. Every method is empty so the JIT inlines the calls away.
+ * Thread safe :- stateless, a single shared instance.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class NoOpMatchEventListener implements MatchEventListener {
+
+    private static final NoOpMatchEventListener INSTANCE = new NoOpMatchEventListener();
+
+    private NoOpMatchEventListener() {
+    }
+
+    /**
+     * Get the shared listener instance
+     *
+     * @return NoOpMatchEventListener
+     */
+    public static NoOpMatchEventListener getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void overStarted(int oversLeft, int runsToWin) {
+    }
+
+    @Override
+    public void ballPlayed(int over, int ball, String playerName, int runs) {
+    }
+
+    @Override
+    public void wicketFell(int over, int ball, String playerName) {
+    }
+
+    @Override
+    public void matchWon(String teamName, int wickets, int ballsRemaining) {
+    }
+
+    @Override
+    public void allOut(String teamName, int runsShort) {
+    }
+
+    @Override
+    public void oversCompleted(String teamName, int runsShort) {
+    }
+
+    @Override
+    public void matchTied() {
+    }
+
+    @Override
+    public void batsmanSummary(String playerName, int runs, int balls, boolean notOut) {
+    }
+
+    @Override
+    public void matchEnded() {
+    }
+}
@@ -1,5 +1,8 @@
 package org.ipl;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Represents the Player.
  * All members are private to package
@@ -11,28 +14,40 @@ package org.ipl;
  */
 final class Player {
     private String playerName;
-    private String playerId;                                // Each player has a unique id, refer to PlayerDataEnum.java
+    private final int playerIndex;                          // dense id in the registry
+    private final AliasSampler sampler;                     // resolved once from the registry, used on every ball
     private int runScored;
     private int ballsPlayedCount;
     private boolean isNotOut;                               // if true, player has not retired yet
 
-    private Player(String playerId) {
-        this.playerId = playerId;
+    private Player(PlayerRegistry registry, int playerIndex) {
         this.runScored = 0;
         this.ballsPlayedCount = 0;
         this.isNotOut = true;
-        this.playerName = PlayerDataEnum.valueOf(playerId).getPlayerName();
+        this.playerIndex = playerIndex;
+        this.playerName = registry.getPlayerName(playerIndex);
+        this.sampler = registry.getSampler(playerIndex);
 
     }
 
     /**
      * Get the player instance
      *
-     * @param playerId This is the unique playerId, refer to PlayerDataEnum.java
+     * @param registry    The registry the player is registered in
+     * @param playerIndex This is the dense player id in @registry
      * @return Player
      */
-    static Player getInstance(String playerId) {
-        return new Player(playerId);
+    static Player getInstance(PlayerRegistry registry, int playerIndex) {
+        return new Player(registry, playerIndex);
+    }
+
+    /**
+     * Bring the player back to the state of a batsman walking in: no runs, no balls faced, not out.
+     */
+    void reset() {
+        this.runScored = 0;
+        this.ballsPlayedCount = 0;
+        this.isNotOut = true;
     }
 
     /**
@@ -94,6 +109,15 @@ final class Player {
         return this.playerName;
     }
 
+    /**
+     * Get the dense id of the player in its registry
+     *
+     * @return int the dense id
+     */
+    int getPlayerIndex() {
+        return this.playerIndex;
+    }
+
     /**
      * This method generates a random outcome on the basis of player probability to determine the runs scored per ball
      *
@@ -107,11 +131,33 @@ final class Player {
      * 6, player has scored 6 runs
      * -1, player has bowled out
      * </li>
-     * @throws KPLException
      */
-    int playBall() throws KPLException {
+    int playBall() {
+
+        return playBall(ThreadLocalRandom.current());
+    }
 
-        return PlayerDataEnum.valueOf(this.playerId).playBall();
+    /**
+     * Same as playBall(), drawing from @random instead of ThreadLocalRandom so the outcome can be reproduced.
+     *
+     * @param random The random source
+     * @return int The runs scored, -1 if the player has bowled out
+     */
+    int playBall(RandomGenerator random) {
+        return BallOutcome.VALUES[playOutcome(random)];
+    }
+
+    /**
+     * Draw the outcome index of a ball, for the table-driven innings loop
+     *
+     * @param random The random source
+     * @return int The outcome index, refer to BallOutcome.java
+     */
+    int playOutcome(RandomGenerator random) {
+        if (Metrics.ENABLED) {
+            return Metrics.sample(this.sampler, this.playerIndex, random);
+        }
+        return this.sampler.sample(random);
     }
 
 
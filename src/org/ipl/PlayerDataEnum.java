@@ -1,6 +1,7 @@
 package org.ipl;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This immutable enum class represents the constant attributes for players. Players are declared as enum constant.
@@ -25,11 +26,22 @@ enum PlayerDataEnum {
 
     private final int[] playerProbabilityArray;   //player probabilities to score the run per ball.
     private final String playerName;
+    private final AliasSampler sampler;           //alias table over playerProbabilityArray, built once per player
 
     // Constructor to associate data with enum constants
     PlayerDataEnum(int[] playerProbabilityArray, String playerName) {
         this.playerProbabilityArray = playerProbabilityArray;
         this.playerName = playerName;
+        this.sampler = new AliasSampler(playerProbabilityArray);
+    }
+
+    // Every distribution must line up with the outcome array, checked once when the enum is loaded.
+    static {
+        for (PlayerDataEnum player : values()) {
+            if (player.playerProbabilityArray.length != outcomeArray.length) {
+                throw new RuntimeException("frequency distribution does not correlate with outcome array");
+            }
+        }
     }
 
     /**
@@ -45,10 +57,36 @@ enum PlayerDataEnum {
      * 6, player has scored 6 runs
      * -1, player has bowled out
      * </li>
-     * @throws KPLException
      */
-    int playBall() throws KPLException {
-        return generateOutcome(this.playerProbabilityArray);
+    int playBall() {
+        return playBall(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Same as playBall(), drawing from @random instead of ThreadLocalRandom so the outcome can be reproduced.
+     *
+     * @param random The random source
+     * @return int The runs scored, -1 if the player has bowled out
+     */
+    int playBall(RandomGenerator random) {
+        if (Metrics.ENABLED) {
+            return outcomeArray[Metrics.sample(this.sampler, ordinal(), random)];   // built-in registry index
+        }
+        return outcomeArray[this.sampler.sample(random)];
+    }
+
+    /**
+     * Draws @n ball outcomes in bulk into @outcomes without allocating. Each slot holds a value from outcomeArray,
+     * as returned by playBall().
+     *
+     * @param outcomes The array to fill, must hold at least @n slots
+     * @param n        The number of balls to draw
+     */
+    void sampleInto(int[] outcomes, int n) {
+        this.sampler.sampleInto(outcomes, n);
+        for (int i = 0; i < n; i++) {
+            outcomes[i] = outcomeArray[outcomes[i]];
+        }
     }
 
     /**
@@ -61,58 +99,20 @@ enum PlayerDataEnum {
     }
 
     /**
-     * This method generates a random outcome on the basis of player probability to determine the runs scored per ball
+     * Get the frequency of each outcome in outcomeArray
      *
-     * @param playerProbabilityArray The player probabilities to score the run per ball.
-     * @return int  a weighted selection from @outcomeArray
-     * @throws KPLException
+     * @return int[] a copy of the player probabilities to score the run per ball
      */
-    private int generateOutcome(int[] playerProbabilityArray) throws KPLException {
-        if (playerProbabilityArray.length != outcomeArray.length) {
-            throw new RuntimeException("frequency distribution does not correlate with outcome array");
-        }
-        int[] pds = new int[playerProbabilityArray.length];
-        pds[0] = playerProbabilityArray[0];
-
-        for (int i = 1; i < playerProbabilityArray.length; i++) {
-            pds[i] = pds[i - 1] + playerProbabilityArray[i];
-        }
-
-        //Returns a random, uniformly distributed value between the given least value (inclusive) and bound (exclusive).
-        // Added 1 to make top value inclusive
-        int randomNum = ThreadLocalRandom.current().nextInt(1, pds[pds.length - 1] + 1);
-
-        //finding index of ceiling of randomNum using binary search
-        int ceilIndex = findCeil(randomNum, pds);
-        if (ceilIndex == -1) {
-            throw new KPLException(CustomExceptionMessages.Error_Finding_Random.toString());
-        } else {
-            return outcomeArray[ceilIndex];
-        }
+    int[] getFrequencies() {
+        return this.playerProbabilityArray.clone();
     }
 
     /**
-     * Find ceiling for @randNum
+     * Get the precomputed sampler over this player's outcome indexes
      *
-     * @param randNum Number
-     * @param pds     Array to look ceiling for
-     * @return int    randNum ceiling from pds array
+     * @return AliasSampler The alias table, indexes line up with outcomeArray
      */
-    private int findCeil(int randNum, int[] pds) {
-        int startIndex = 0;
-        int endIndex = pds.length - 1;
-
-        while (startIndex < endIndex) {
-            int mid = (startIndex + endIndex) / 2;
-            if (randNum < pds[mid]) {
-                endIndex = mid;
-            } else {
-                startIndex = mid + 1;
-            }
-        }
-        if (pds[startIndex] >= randNum) {
-            return startIndex;
-        }
-        return -1;
+    AliasSampler getSampler() {
+        return this.sampler;
     }
 }
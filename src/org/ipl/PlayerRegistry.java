@@ -0,0 +1,305 @@
+package org.ipl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of players that teams are picked from. Every player gets a dense int id, its position in the registry, and
+ * its alias table is built when the player is registered, so a batsman resolves to a sampler once instead of on
+ * every ball.
+ * The four PlayerDataEnum players are available as the built-in registry. Larger pools are loaded from a compact
+ * binary file through a memory-mapped buffer:
+ * <pre>
+ * int   magic 'KPLR'
+ * short version
+ * int   player count
+ * per player:
+ *   byte  id length,   id bytes (UTF-8)
+ *   short name length, name bytes (UTF-8)
+ *   8 x unsigned short frequency, in outcome order, refer to BallOutcome.java
+ * </pre>
+ * Not thread safe while players are being added. Once built, a registry is only read and can be shared by any number
+ * of threads; the built-in registry and loaded registries are read only.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class PlayerRegistry {
+
+    private static final int MAGIC = 0x4B504C52;            // "KPLR"
+    private static final short VERSION = 1;
+    private static final int MAX_FREQUENCY = 0xFFFF;
+    private static final int MAX_NAME_BYTES = 0xFFFF;                       // UTF-8 name length, an unsigned short
+    private static final int MIN_RECORD_BYTES = 3 + 2 * BallOutcome.COUNT;    // empty id and name
+
+    private static final PlayerRegistry BUILT_IN = createBuiltIn();
+
+    private final Map<String, Integer> idIndex;             // player id -> dense id
+    private final boolean readOnly;
+    private String[] playerIds;
+    private String[] playerNames;
+    private int[] frequencies;                              // dense id * BallOutcome.COUNT + outcome index
+    private AliasSampler[] samplers;
+    private int size;
+
+    private PlayerRegistry(int capacity, boolean readOnly) {
+        this.idIndex = new HashMap<>(Math.max(16, capacity * 4 / 3 + 1));
+        this.readOnly = readOnly;
+        this.playerIds = new String[capacity];
+        this.playerNames = new String[capacity];
+        this.frequencies = new int[capacity * BallOutcome.COUNT];
+        this.samplers = new AliasSampler[capacity];
+    }
+
+    /**
+     * Get an empty registry to add players to, e.g. before saving it to a file.
+     *
+     * @return PlayerRegistry a new, empty registry
+     */
+    public static PlayerRegistry getInstance() {
+        return new PlayerRegistry(16, false);
+    }
+
+    /**
+     * Get the read only registry of the players declared in PlayerDataEnum.java
+     *
+     * @return PlayerRegistry the shared built-in registry
+     */
+    public static PlayerRegistry getBuiltIn() {
+        return BUILT_IN;
+    }
+
+    private static PlayerRegistry createBuiltIn() {
+        PlayerDataEnum[] players = PlayerDataEnum.values();
+        PlayerRegistry registry = new PlayerRegistry(players.length, true);
+        for (PlayerDataEnum player : players) {
+            registry.register(player.name(), player.getPlayerName(), player.getFrequencies());
+        }
+        return registry;
+    }
+
+    /**
+     * Load a read only registry from a player file.
+     *
+     * @param file The player file, refer to the class comment for the format
+     * @return PlayerRegistry the players in file order, dense ids 0 to count - 1
+     * @throws IOException              if the file can not be read
+     * @throws IllegalArgumentException if the file is not a valid player file
+     */
+    public static PlayerRegistry load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 10 || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Player_File);
+            }
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_RECORD_BYTES) {        // before sizing the registry by it
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Player_File);
+            }
+            PlayerRegistry registry = new PlayerRegistry(count, true);
+            byte[] text = new byte[MAX_NAME_BYTES];
+            int[] playerFrequencies = new int[BallOutcome.COUNT];
+            try {
+                for (int i = 0; i < count; i++) {
+                    int idLength = buffer.get() & 0xFF;
+                    buffer.get(text, 0, idLength);
+                    String playerId = new String(text, 0, idLength, StandardCharsets.UTF_8);
+                    int nameLength = buffer.getShort() & 0xFFFF;
+                    buffer.get(text, 0, nameLength);
+                    String playerName = new String(text, 0, nameLength, StandardCharsets.UTF_8);
+                    for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                        playerFrequencies[outcome] = buffer.getShort() & 0xFFFF;
+                    }
+                    registry.register(playerId, playerName, playerFrequencies);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(file + " " + CustomExceptionMessages.Invalid_Player_File, e);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Write every player to a player file, replacing the file if it exists.
+     *
+     * @param file The file to write, refer to the class comment for the format
+     * @throws IOException if the file can not be written
+     */
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 17);       // fits the largest record
+            buffer.putInt(MAGIC).putShort(VERSION).putInt(this.size);
+            for (int i = 0; i < this.size; i++) {
+                byte[] playerId = this.playerIds[i].getBytes(StandardCharsets.UTF_8);
+                byte[] playerName = this.playerNames[i].getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < 3 + playerId.length + playerName.length + 2 * BallOutcome.COUNT) {
+                    writeFully(channel, buffer);
+                }
+                buffer.put((byte) playerId.length).put(playerId);
+                buffer.putShort((short) playerName.length).put(playerName);
+                for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                    buffer.putShort((short) this.frequencies[i * BallOutcome.COUNT + outcome]);
+                }
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Add a player to the registry. The player gets the next dense id.
+     *
+     * @param playerId    The unique player id, at most 255 bytes in UTF-8
+     * @param playerName  The player name, at most 65535 bytes in UTF-8
+     * @param frequencies The player's frequency for each outcome index, refer to BallOutcome.java. Each at most 65535.
+     * @throws IllegalArgumentException      if the id is already registered or the data does not fit the file format
+     * @throws UnsupportedOperationException if the registry is read only
+     */
+    public void addPlayer(String playerId, String playerName, int[] frequencies) {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException(CustomExceptionMessages.Registry_Is_Read_Only.toString());
+        }
+        if (playerId.getBytes(StandardCharsets.UTF_8).length > 0xFF || playerName.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Invalid_Player_Data);
+        }
+        for (int frequency : frequencies) {
+            if (frequency > MAX_FREQUENCY) {
+                throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Invalid_Player_Data);
+            }
+        }
+        register(playerId, playerName, frequencies);
+    }
+
+    private void register(String playerId, String playerName, int[] playerFrequencies) {
+        if (playerFrequencies.length != BallOutcome.COUNT) {
+            throw new IllegalArgumentException("frequency distribution does not correlate with outcome array");
+        }
+        if (this.idIndex.containsKey(playerId)) {
+            throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Duplicate_Player);
+        }
+        AliasSampler sampler = new AliasSampler(playerFrequencies);
+        if (this.size == this.playerIds.length) {
+            int capacity = Math.max(16, this.size * 2);
+            this.playerIds = Arrays.copyOf(this.playerIds, capacity);
+            this.playerNames = Arrays.copyOf(this.playerNames, capacity);
+            this.frequencies = Arrays.copyOf(this.frequencies, capacity * BallOutcome.COUNT);
+            this.samplers = Arrays.copyOf(this.samplers, capacity);
+        }
+        this.playerIds[this.size] = playerId;
+        this.playerNames[this.size] = playerName;
+        System.arraycopy(playerFrequencies, 0, this.frequencies, this.size * BallOutcome.COUNT, BallOutcome.COUNT);
+        this.samplers[this.size] = sampler;
+        this.idIndex.put(playerId, this.size);
+        this.size++;
+    }
+
+    /**
+     * Get the number of registered players
+     *
+     * @return int The player count, dense ids run from 0 to size - 1
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Check if a player id is registered
+     *
+     * @param playerId The unique player id
+     * @return boolean True, if the player is in the registry
+     */
+    public boolean contains(String playerId) {
+        return this.idIndex.containsKey(playerId);
+    }
+
+    /**
+     * Resolve a player id to its dense id
+     *
+     * @param playerId The unique player id
+     * @return int The dense id
+     * @throws IllegalArgumentException if the player is not registered
+     */
+    int indexOf(String playerId) {
+        Integer index = this.idIndex.get(playerId);
+        if (index == null) {
+            throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Unknown_Player);
+        }
+        return index;
+    }
+
+    /**
+     * Get the unique player id of a dense id
+     *
+     * @param index The dense id
+     * @return String The player id
+     */
+    String getPlayerId(int index) {
+        return this.playerIds[index];
+    }
+
+    /**
+     * Get the player name of a dense id
+     *
+     * @param index The dense id
+     * @return String The player name
+     */
+    String getPlayerName(int index) {
+        return this.playerNames[index];
+    }
+
+    /**
+     * Get the precomputed sampler of a dense id
+     *
+     * @param index The dense id
+     * @return AliasSampler The alias table over outcome indexes
+     */
+    AliasSampler getSampler(int index) {
+        return this.samplers[index];
+    }
+
+    /**
+     * Get the outcome frequencies of a dense id, as registered
+     *
+     * @param index The dense id
+     * @return int[] a new array indexed by outcome, refer to BallOutcome.java
+     */
+    int[] getFrequencies(int index) {
+        return Arrays.copyOfRange(this.frequencies, index * BallOutcome.COUNT, (index + 1) * BallOutcome.COUNT);
+    }
+
+    /**
+     * Get the probability of each outcome for a dense id, the frequencies divided by their total.
+     *
+     * @param index The dense id
+     * @return double[] a new array indexed by outcome, refer to BallOutcome.java
+     */
+    double[] getOutcomeProbabilities(int index) {
+        int offset = index * BallOutcome.COUNT;
+        int total = 0;
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            total += this.frequencies[offset + outcome];
+        }
+        double[] probabilities = new double[BallOutcome.COUNT];
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            probabilities[outcome] = (double) this.frequencies[offset + outcome] / total;
+        }
+        return probabilities;
+    }
+}
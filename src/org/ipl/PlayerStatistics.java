@@ -0,0 +1,283 @@
+package org.ipl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Career statistics per player, accumulated across any number of concurrently simulated innings: balls faced,
+ * dismissals, runs by outcome, strike rate and a histogram of runs per innings.
+ * Every simulating thread writes to its own shard, so updates take no locks and no compare-and-set: a shard has a
+ * single writer, which publishes each counter with an ordered lazySet. Readers sum the shards at the moment of the
+ * query, so statistics can be read while simulations are still running and are at most a few balls stale.
+ * Memory is fixed per player and thread, not per innings: 8 outcome counters and HISTOGRAM_BUCKETS run buckets, for
+ * the players that have batted. Players get compact slots in the order they first bat, so memory follows the players
+ * simulated, never the size of the registry they come from.
+ * Thread safe :- any number of simulating threads and readers.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class PlayerStatistics {
+
+    static final int HISTOGRAM_BUCKETS = 128;               // runs 0 to 126, the last bucket holds 127 and more
+    private static final int STRIDE = BallOutcome.COUNT + HISTOGRAM_BUCKETS;
+
+    private final PlayerRegistry registry;
+    private final Queue<Shard> shards = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Shard> localShard;
+    private final Map<Integer, Integer> slots = new ConcurrentHashMap<>();    // registry index to slot in the shards
+    private final AtomicInteger slotCount = new AtomicInteger();
+
+    private PlayerStatistics(PlayerRegistry registry) {
+        this.registry = registry;
+        this.localShard = ThreadLocal.withInitial(() -> {
+            Shard shard = new Shard(this);
+            this.shards.add(shard);
+            return shard;
+        });
+    }
+
+    /**
+     * Get empty statistics for the players of @registry
+     *
+     * @param registry The registry the simulated teams pick their players from
+     * @return PlayerStatistics
+     */
+    public static PlayerStatistics getInstance(PlayerRegistry registry) {
+        return new PlayerStatistics(registry);
+    }
+
+    /**
+     * Get the calling thread's recorder, to observe the innings played on this thread only.
+     *
+     * @return InningsObserver the thread's shard
+     */
+    InningsObserver getRecorder() {
+        return this.localShard.get();
+    }
+
+    /**
+     * Get the slot of a player, giving it the next one on its first ball.
+     */
+    private int slotOf(int playerIndex) {
+        return this.slots.computeIfAbsent(playerIndex, key -> this.slotCount.getAndIncrement());
+    }
+
+    /**
+     * Sum one counter of a player over every shard.
+     */
+    private long sum(int playerIndex, int counter) {
+        Integer slot = this.slots.get(playerIndex);
+        if (slot == null) {
+            return 0;
+        }
+        long total = 0;
+        for (Shard shard : this.shards) {
+            AtomicLongArray counts = shard.counts;
+            int index = slot * STRIDE + counter;
+            if (index < counts.length()) {
+                total += counts.get(index);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Get how many times a player had each outcome
+     *
+     * @param playerId The unique player id
+     * @return long[] a new array of counts indexed by outcome: 0 to 6 runs, then bowled out
+     */
+    public long[] getOutcomeCounts(String playerId) {
+        int playerIndex = this.registry.indexOf(playerId);
+        long[] counts = new long[BallOutcome.COUNT];
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            counts[outcome] = sum(playerIndex, outcome);
+        }
+        return counts;
+    }
+
+    /**
+     * Get the number of innings in which a player faced at least one ball, with the runs scored in each
+     *
+     * @param playerId The unique player id
+     * @return long[] a new array of innings counts indexed by runs, the last bucket holds 127 runs and more
+     */
+    public long[] getRunsHistogram(String playerId) {
+        int playerIndex = this.registry.indexOf(playerId);
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int runs = 0; runs < HISTOGRAM_BUCKETS; runs++) {
+            histogram[runs] = sum(playerIndex, BallOutcome.COUNT + runs);
+        }
+        return histogram;
+    }
+
+    /**
+     * Get a player's runs
+     *
+     * @param playerId The unique player id
+     * @return long The runs scored
+     */
+    public long getRuns(String playerId) {
+        long[] counts = getOutcomeCounts(playerId);
+        long runs = 0;
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            runs += counts[outcome] * BallOutcome.RUNS[outcome];
+        }
+        return runs;
+    }
+
+    /**
+     * Get a player's balls faced
+     *
+     * @param playerId The unique player id
+     * @return long The balls faced
+     */
+    public long getBallsFaced(String playerId) {
+        long balls = 0;
+        for (long count : getOutcomeCounts(playerId)) {
+            balls += count;
+        }
+        return balls;
+    }
+
+    /**
+     * Get how many times a player was bowled out
+     *
+     * @param playerId The unique player id
+     * @return long The dismissals
+     */
+    public long getDismissals(String playerId) {
+        return sum(this.registry.indexOf(playerId), BallOutcome.OUT);
+    }
+
+    /**
+     * Get a player's strike rate, the runs per 100 balls faced
+     *
+     * @param playerId The unique player id
+     * @return double The strike rate, 0 if the player has not faced a ball
+     */
+    public double getStrikeRate(String playerId) {
+        long[] counts = getOutcomeCounts(playerId);
+        long runs = 0;
+        long balls = 0;
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            runs += counts[outcome] * BallOutcome.RUNS[outcome];
+            balls += counts[outcome];
+        }
+        return balls == 0 ? 0 : 100.0 * runs / balls;
+    }
+
+    /**
+     * One thread's counters: per slot, the outcome counts followed by the runs histogram. Only the owning thread
+     * writes; the array grows to the highest slot seen and is republished through a volatile field. Slots are looked
+     * up in a small open addressing table of the players this thread has seen, so the shared map is only consulted on
+     * a player's first ball on the thread.
+     */
+    private static final class Shard implements InningsObserver {
+        private final PlayerStatistics statistics;
+        private volatile AtomicLongArray counts = new AtomicLongArray(0);
+        private int[] inningsRuns = new int[0];             // runs per slot in the current innings
+        private int[] batted = new int[16];                 // slots that faced a ball in the current innings
+        private int battedCount;
+        private int[] keys = new int[16];                   // registry index + 1, 0 when the entry is free
+        private int[] values = new int[16];                 // slot of the registry index in keys
+        private int keyCount;
+
+        Shard(PlayerStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void deliveryPlayed(int over, int ball, int playerIndex, int outcome) {
+            int slot = slotOf(playerIndex);
+            AtomicLongArray counts = this.counts;
+            if ((slot + 1) * STRIDE > counts.length()) {
+                counts = grow(slot);
+            }
+            int index = slot * STRIDE + outcome;
+            counts.lazySet(index, counts.get(index) + 1);
+
+            if (this.inningsRuns[slot] < 0) {               // first ball of the player in this innings
+                this.inningsRuns[slot] = 0;
+                if (this.battedCount == this.batted.length) {
+                    this.batted = Arrays.copyOf(this.batted, this.battedCount * 2);
+                }
+                this.batted[this.battedCount++] = slot;
+            }
+            this.inningsRuns[slot] += BallOutcome.RUNS[outcome];
+        }
+
+        @Override
+        public void inningsEnded() {
+            AtomicLongArray counts = this.counts;
+            for (int i = 0; i < this.battedCount; i++) {
+                int slot = this.batted[i];
+                int index = slot * STRIDE + BallOutcome.COUNT + Math.min(this.inningsRuns[slot], HISTOGRAM_BUCKETS - 1);
+                counts.lazySet(index, counts.get(index) + 1);
+                this.inningsRuns[slot] = -1;
+            }
+            this.battedCount = 0;
+        }
+
+        private int slotOf(int playerIndex) {
+            int i = bucket(playerIndex + 1);
+            while (this.keys[i] != 0) {
+                if (this.keys[i] == playerIndex + 1) {
+                    return this.values[i];
+                }
+                i = (i + 1) & (this.keys.length - 1);
+            }
+            int slot = this.statistics.slotOf(playerIndex);
+            if ((this.keyCount + 1) * 2 > this.keys.length) {
+                int[] oldKeys = this.keys;
+                int[] oldValues = this.values;
+                this.keys = new int[oldKeys.length * 2];
+                this.values = new int[oldKeys.length * 2];
+                this.keyCount = 0;
+                for (int j = 0; j < oldKeys.length; j++) {
+                    if (oldKeys[j] != 0) {
+                        put(oldKeys[j], oldValues[j]);
+                    }
+                }
+            }
+            put(playerIndex + 1, slot);
+            return slot;
+        }
+
+        private void put(int key, int slot) {
+            int i = bucket(key);
+            while (this.keys[i] != 0) {
+                i = (i + 1) & (this.keys.length - 1);
+            }
+            this.keys[i] = key;
+            this.values[i] = slot;
+            this.keyCount++;
+        }
+
+        private int bucket(int key) {
+            int hash = key * 0x9E3779B9;
+            return (hash ^ hash >>> 16) & (this.keys.length - 1);
+        }
+
+        private AtomicLongArray grow(int slot) {
+            AtomicLongArray old = this.counts;
+            int players = Math.max(slot + 1, old.length() / STRIDE * 2);
+            AtomicLongArray grown = new AtomicLongArray(players * STRIDE);
+            for (int i = 0; i < old.length(); i++) {
+                grown.lazySet(i, old.get(i));
+            }
+            int oldPlayers = this.inningsRuns.length;
+            this.inningsRuns = Arrays.copyOf(this.inningsRuns, players);
+            Arrays.fill(this.inningsRuns, oldPlayers, players, -1);
+            this.counts = grown;
+            return grown;
+        }
+    }
+}
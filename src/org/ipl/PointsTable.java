@@ -0,0 +1,117 @@
+package org.ipl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * League table of a tournament, updated as each fixture completes rather than once the league is over.
+ * A fixture is won by the side that wins more of its simulated matches, for 2 points; equal wins is a tie, 1 point
+ * each. Net run rate is taken over every simulated match of the team's fixtures, counting the full quota of overs
+ * for an innings that was bowled out.
+ * Thread safe :- fixtures are recorded and snapshots taken under the table's lock, once per fixture, which is cheap
+ * next to simulating it.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class PointsTable {
+    private static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::getPoints).reversed()
+            .thenComparing(Comparator.comparingDouble(Standing::getNetRunRate).reversed());
+
+    private final String[] teamNames;
+    private final int[] played;
+    private final int[] won;
+    private final int[] tied;
+    private final int[] lost;
+    private final long[] runsScored;
+    private final long[] ballsFaced;
+    private final long[] runsConceded;
+    private final long[] ballsBowled;
+
+    PointsTable(String[] teamNames) {
+        int teams = teamNames.length;
+        this.teamNames = teamNames.clone();
+        this.played = new int[teams];
+        this.won = new int[teams];
+        this.tied = new int[teams];
+        this.lost = new int[teams];
+        this.runsScored = new long[teams];
+        this.ballsFaced = new long[teams];
+        this.runsConceded = new long[teams];
+        this.ballsBowled = new long[teams];
+    }
+
+    /**
+     * Record a completed fixture
+     *
+     * @param fixture The simulated fixture, its team indexes refer to the table's team order
+     */
+    synchronized void record(FixtureResult fixture) {
+        int first = fixture.getBattingFirst();
+        int second = fixture.getChasing();
+        this.played[first]++;
+        this.played[second]++;
+        int winner = fixture.getWinner();
+        if (winner == first) {
+            this.won[first]++;
+            this.lost[second]++;
+        } else if (winner == second) {
+            this.won[second]++;
+            this.lost[first]++;
+        } else {
+            this.tied[first]++;
+            this.tied[second]++;
+        }
+        this.runsScored[first] += fixture.getFirstInningsRuns();
+        this.ballsFaced[first] += fixture.getFirstInningsBalls();
+        this.runsConceded[second] += fixture.getFirstInningsRuns();
+        this.ballsBowled[second] += fixture.getFirstInningsBalls();
+        this.runsScored[second] += fixture.getSecondInningsRuns();
+        this.ballsFaced[second] += fixture.getSecondInningsBalls();
+        this.runsConceded[first] += fixture.getSecondInningsRuns();
+        this.ballsBowled[first] += fixture.getSecondInningsBalls();
+    }
+
+    /**
+     * Get the table as it stands, best team first: by points, then net run rate.
+     *
+     * @return List<Standing> a new list with one row per team
+     */
+    synchronized List<Standing> getStandings() {
+        List<Standing> standings = new ArrayList<>(this.teamNames.length);
+        for (int team = 0; team < this.teamNames.length; team++) {
+            standings.add(new Standing(this.teamNames[team], this.played[team], this.won[team], this.tied[team],
+                    this.lost[team], 2 * this.won[team] + this.tied[team], getNetRunRate(team)));
+        }
+        standings.sort(ORDER);
+        return standings;
+    }
+
+    /**
+     * Get the team indexes in table order, best team first
+     *
+     * @return int[] The team indexes
+     */
+    synchronized int[] getRanking() {
+        Integer[] ranking = new Integer[this.teamNames.length];
+        for (int team = 0; team < ranking.length; team++) {
+            ranking[team] = team;
+        }
+        Arrays.sort(ranking, Comparator.<Integer>comparingInt(team -> 2 * this.won[team] + this.tied[team]).reversed()
+                .thenComparing(Comparator.<Integer>comparingDouble(this::getNetRunRate).reversed()));
+        int[] order = new int[ranking.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ranking[i];
+        }
+        return order;
+    }
+
+    private double getNetRunRate(int team) {
+        double scoringRate = this.ballsFaced[team] == 0 ? 0 : 6.0 * this.runsScored[team] / this.ballsFaced[team];
+        double concedingRate = this.ballsBowled[team] == 0 ? 0 : 6.0 * this.runsConceded[team] / this.ballsBowled[team];
+        return scoringRate - concedingRate;
+    }
+}
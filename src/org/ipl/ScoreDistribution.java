@@ -0,0 +1,225 @@
+package org.ipl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Mergeable histogram of a per innings count, such as the team total, a batsman's runs or the balls remaining, with
+ * its quantiles. Memory is fixed by the largest possible value, never by the number of innings recorded, so a
+ * SimulationResult of billions of innings holds the same few hundred counters as one of a thousand.
+ * Buckets are log-linear, refer to Metrics.bucketOf(): every value below 64 has its own bucket, above that each power
+ * of two is split into 32 buckets. Counts are exact, so the rank of a quantile is exact; the value reported is
+ * <li>
+ * exact below 64, which covers every batsman and team total of a short chase
+ * the middle of its bucket otherwise, within 1/64 (1.6%) of the true value, e.g. +-2 runs on a score of 180
+ * </li>
+ * The mean, minimum and maximum are exact. Merging adds counters, so the result does not depend on how the innings were
+ * split between threads.
+ * Not ThreadSafe :- each worker fills its own instance, the copies returned by SimulationResult never change.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class ScoreDistribution {
+    private final long[] counts;                            // innings per bucket, refer to Metrics.bucketOf()
+    private long innings;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * An empty distribution for values from 0 to @maxValue
+     */
+    ScoreDistribution(int maxValue) {
+        this.counts = new long[Metrics.bucketOf(maxValue) + 1];
+    }
+
+    private ScoreDistribution(ScoreDistribution other) {
+        this.counts = other.counts.clone();
+        this.innings = other.innings;
+        this.sum = other.sum;
+        this.min = other.min;
+        this.max = other.max;
+    }
+
+    /**
+     * Add the value of one innings.
+     *
+     * @param value The value, from 0 to the maximum given at construction
+     */
+    void record(int value) {
+        this.counts[Metrics.bucketOf(value)]++;
+        this.innings++;
+        this.sum += value;
+        if (value < this.min) {
+            this.min = value;
+        }
+        if (value > this.max) {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Add the counters of another distribution of the same maximum to this one.
+     *
+     * @param other The distribution to merge
+     * @return ScoreDistribution this instance
+     */
+    ScoreDistribution merge(ScoreDistribution other) {
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            this.counts[bucket] += other.counts[bucket];
+        }
+        this.innings += other.innings;
+        this.sum += other.sum;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        return this;
+    }
+
+    /**
+     * Write the counters, only the buckets from the first to the last one used.
+     *
+     * @param out The stream to write to
+     * @throws IOException if the stream can not be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        int from = 0;
+        int to = this.counts.length;
+        while (from < to && this.counts[from] == 0) {
+            from++;
+        }
+        while (to > from && this.counts[to - 1] == 0) {
+            to--;
+        }
+        out.writeInt(from);
+        out.writeInt(to);
+        for (int bucket = from; bucket < to; bucket++) {
+            out.writeLong(this.counts[bucket]);
+        }
+        out.writeLong(this.innings);
+        out.writeLong(this.sum);
+        out.writeInt(this.min);
+        out.writeInt(this.max);
+    }
+
+    /**
+     * Add counters written by writeTo() for a distribution of the same maximum.
+     *
+     * @param in The stream to read from
+     * @throws IOException if the stream can not be read or does not fit this distribution
+     */
+    void readFrom(DataInput in) throws IOException {
+        int from = in.readInt();
+        int to = in.readInt();
+        if (from < 0 || to > this.counts.length || from > to) {
+            throw new IOException(CustomExceptionMessages.Invalid_Worker_Message.toString());
+        }
+        for (int bucket = from; bucket < to; bucket++) {
+            this.counts[bucket] += in.readLong();
+        }
+        this.innings += in.readLong();
+        this.sum += in.readLong();
+        this.min = Math.min(this.min, in.readInt());
+        this.max = Math.max(this.max, in.readInt());
+    }
+
+    /**
+     * A copy that later records do not change
+     */
+    ScoreDistribution copy() {
+        return new ScoreDistribution(this);
+    }
+
+    /**
+     * Get the number of innings recorded
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the exact mean value
+     *
+     * @return double The mean, 0 if nothing was recorded
+     */
+    public double getMean() {
+        return this.innings == 0 ? 0 : (double) this.sum / this.innings;
+    }
+
+    /**
+     * Get the smallest value recorded
+     *
+     * @return int The minimum, 0 if nothing was recorded
+     */
+    public int getMin() {
+        return this.innings == 0 ? 0 : this.min;
+    }
+
+    /**
+     * Get the largest value recorded
+     *
+     * @return int The maximum, 0 if nothing was recorded
+     */
+    public int getMax() {
+        return this.innings == 0 ? 0 : this.max;
+    }
+
+    /**
+     * Get the value that @quantile of the innings are at or below, by nearest rank: the value of innings number
+     * ceil(@quantile * n) in ascending order. Refer to the class comment for its error.
+     *
+     * @param quantile The quantile, from 0 to 1, e.g. 0.5 for the median
+     * @return int The value, 0 if nothing was recorded
+     * @throws IllegalArgumentException if @quantile is not between 0 and 1
+     */
+    public int getQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Quantile.toString());
+        } else if (this.innings == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * this.innings));
+        if (rank == this.innings) {
+            return this.max;
+        }
+        long seen = 0;
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= rank) {
+                long lowest = Metrics.lowestValueOf(bucket);
+                long middle = lowest + (Metrics.lowestValueOf(bucket + 1) - lowest) / 2;
+                return (int) Math.max(this.min, Math.min(this.max, middle));
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Get the innings per bucket
+     *
+     * @return long[] counts, bucket i holding the values from getBucketLowestValue(i) to getBucketLowestValue(i + 1) - 1
+     */
+    public long[] getCounts() {
+        return this.counts.clone();
+    }
+
+    /**
+     * Get the smallest value that falls in a bucket
+     *
+     * @param bucket The bucket index
+     * @return int The lowest value of the bucket
+     */
+    public int getBucketLowestValue(int bucket) {
+        return (int) Metrics.lowestValueOf(bucket);
+    }
+
+    @Override
+    public String toString() {
+        return "mean " + getMean() + ", p5 " + getQuantile(0.05) + ", median " + getQuantile(0.5) + ", p95 "
+                + getQuantile(0.95) + ", max " + getMax() + " over " + this.innings + " innings";
+    }
+}
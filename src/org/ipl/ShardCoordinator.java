@@ -0,0 +1,311 @@
+package org.ipl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs seeded simulations of many chases across worker JVMs on this machine, for sweeps that outgrow one heap.
+ * Every scenario's innings are cut into slices of consecutive innings numbers. Each worker, a ShardWorker process,
+ * takes the next slice from a shared queue, plays it and streams its SimulationResult back over a pipe in binary,
+ * refer to ShardWorker.java for the protocol. The coordinator merges the partial results per scenario.
+ * Innings i of a scenario always draws from stream i of the seed, so the merged result of a scenario is exactly
+ * MatchSimulator.simulate(innings, seed) for it, whichever worker played which slice.
+ * A worker that crashes, exits or sends a broken message is killed and restarted, and the slice it was playing goes
+ * back to the front of the queue. So is a worker that hangs: one that has not answered within SLICE_GRACE_MILLIS plus
+ * a millisecond per MIN_INNINGS_PER_MILLI innings of its slice is killed by a watchdog, which ends the blocked read.
+ * A run fails with an IOException once more than maxRestarts workers have been lost.
+ * Thread safe :- the coordinator is immutable, each simulate() call starts its own workers.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class ShardCoordinator {
+
+    private static final long MIN_SLICE_INNINGS = 1 << 14;
+    private static final long MAX_SLICE_INNINGS = 1 << 22;  // about a second of work for one worker thread
+    private static final int SLICES_PER_WORKER = 4;         // so that a fast worker can take over a slow one's share
+    private static final long SLICE_GRACE_MILLIS = 30_000;  // worker start-up, JIT warm-up and GC pauses
+    private static final long MIN_INNINGS_PER_MILLI = 64;   // a healthy worker thread plays thousands
+
+    private final int workers;
+    private final int threadsPerWorker;
+    private final List<String> jvmOptions;
+    private final int maxRestarts;
+
+    private ShardCoordinator(int workers, int threadsPerWorker, List<String> jvmOptions, int maxRestarts) {
+        this.workers = workers;
+        this.threadsPerWorker = threadsPerWorker;
+        this.jvmOptions = List.copyOf(jvmOptions);
+        this.maxRestarts = maxRestarts;
+    }
+
+    /**
+     * Get a coordinator of @workers JVMs sharing this machine's processors, restarting up to 3 lost workers per run.
+     *
+     * @param workers The number of worker JVMs. Must be greater than 0.
+     * @return ShardCoordinator
+     * @throws IllegalArgumentException
+     */
+    public static ShardCoordinator getInstance(int workers) throws IllegalArgumentException {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, workers));
+        return getInstance(workers, threads, List.of(), 3);
+    }
+
+    /**
+     * Get a coordinator of worker JVMs.
+     *
+     * @param workers          The number of worker JVMs. Must be greater than 0.
+     * @param threadsPerWorker The fork-join parallelism of each worker. Must be greater than 0.
+     * @param jvmOptions       Options for the worker JVMs, e.g. -Xmx2g
+     * @param maxRestarts      The most lost workers to replace in one run. Must not be negative.
+     * @return ShardCoordinator
+     * @throws IllegalArgumentException
+     */
+    public static ShardCoordinator getInstance(int workers, int threadsPerWorker, List<String> jvmOptions, int maxRestarts) throws IllegalArgumentException {
+        if (workers <= 0 || threadsPerWorker <= 0 || maxRestarts < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Worker_Count.toString());
+        }
+        return new ShardCoordinator(workers, threadsPerWorker, jvmOptions, maxRestarts);
+    }
+
+    /**
+     * Simulate @innings innings of every scenario reproducibly across the worker JVMs.
+     *
+     * @param scenarios The chases to simulate, each with its batting order, target and overs
+     * @param innings   The number of innings per scenario. Must be greater than 0.
+     * @param seed      The root seed, the same for every scenario
+     * @return List<SimulationResult> the merged result per scenario, in the order given, each the same as
+     * scenarios.get(i).simulate(innings, seed)
+     * @throws IOException              if a worker can not be started, or more than maxRestarts workers were lost
+     * @throws IllegalArgumentException
+     */
+    public List<SimulationResult> simulate(List<MatchSimulator> scenarios, long innings, long seed) throws IOException {
+        if (innings <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        }
+        long perSlice = Math.min(MAX_SLICE_INNINGS, Math.max(MIN_SLICE_INNINGS,
+                innings * scenarios.size() / ((long) this.workers * SLICES_PER_WORKER)));
+        Run run = new Run(scenarios);
+        for (int scenario = 0; scenario < scenarios.size(); scenario++) {
+            for (long first = 0; first < innings; first += perSlice) {
+                run.queue.add(new Slice(scenario, first, Math.min(perSlice, innings - first), seed));
+            }
+        }
+
+        List<Thread> threads = new ArrayList<>(this.workers);
+        for (int i = 0; i < Math.min(this.workers, run.queue.size()); i++) {
+            Thread thread = new Thread(() -> drive(run), "kpl-shard-" + threads.size());
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.fail(new IOException(e));
+            }
+        }
+        if (run.failure != null) {
+            throw run.failure;
+        }
+        return run.results;
+    }
+
+    /**
+     * Feed slices to one worker process at a time until the queue is empty, replacing the process whenever it is lost.
+     */
+    private void drive(Run run) {
+        WorkerProcess worker = null;
+        try {
+            while (!run.failed()) {
+                Slice slice = run.take();
+                if (slice == null) {
+                    return;
+                }
+                try {
+                    if (worker == null) {
+                        worker = new WorkerProcess(run.scenarios);
+                    }
+                    worker.play(slice, run);
+                } catch (IOException e) {
+                    run.requeue(slice);
+                    if (worker != null) {
+                        worker.kill();
+                        worker = null;
+                    }
+                    if (!run.restart(this.maxRestarts)) {
+                        run.fail(new IOException(CustomExceptionMessages.Worker_Failed.toString(), e));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            run.fail(new IOException(CustomExceptionMessages.Worker_Failed.toString(), e));
+        } finally {
+            if (worker != null) {
+                worker.quit();
+            }
+        }
+    }
+
+    /**
+     * One slice of a scenario's innings.
+     */
+    private static final class Slice {
+        final int scenario;
+        final long first;
+        final long innings;
+        final long seed;
+
+        Slice(int scenario, long first, long innings, long seed) {
+            this.scenario = scenario;
+            this.first = first;
+            this.innings = innings;
+            this.seed = seed;
+        }
+    }
+
+    /**
+     * State of one simulate() call shared by its driver threads; every access holds the run's lock.
+     */
+    private static final class Run {
+        final List<MatchSimulator> scenarios;
+        final List<SimulationResult> results;
+        final Deque<Slice> queue = new ArrayDeque<>();
+        int restarts;
+        IOException failure;
+
+        Run(List<MatchSimulator> scenarios) {
+            this.scenarios = scenarios;
+            this.results = new ArrayList<>(scenarios.size());
+            for (MatchSimulator scenario : scenarios) {
+                this.results.add(new SimulationResult(scenario.getLineup(), scenario.getOvers()));
+            }
+        }
+
+        synchronized Slice take() {
+            return this.queue.pollFirst();
+        }
+
+        synchronized void requeue(Slice slice) {
+            this.queue.addFirst(slice);
+        }
+
+        synchronized boolean restart(int maxRestarts) {
+            return ++this.restarts <= maxRestarts;
+        }
+
+        synchronized void fail(IOException failure) {
+            if (this.failure == null) {
+                this.failure = failure;
+            }
+        }
+
+        synchronized boolean failed() {
+            return this.failure != null;
+        }
+    }
+
+    /**
+     * A running ShardWorker JVM with its pipes.
+     */
+    private final class WorkerProcess {
+        private final Process process;
+        private final DataOutputStream in;                  // the worker's stdin
+        private final DataInputStream out;                  // the worker's stdout
+        private volatile Slice playing;                     // the slice awaiting an answer, null between slices
+
+        WorkerProcess(List<MatchSimulator> scenarios) throws IOException {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmOptions);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ShardWorker.class.getName());
+            command.add(Integer.toString(threadsPerWorker));
+            this.process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            this.in = new DataOutputStream(new BufferedOutputStream(this.process.getOutputStream(), 1 << 16));
+            this.out = new DataInputStream(new BufferedInputStream(this.process.getInputStream(), 1 << 16));
+            try {
+                this.in.writeInt(ShardWorker.MAGIC);
+                this.in.writeShort(ShardWorker.VERSION);
+                this.in.writeInt(scenarios.size());
+                for (MatchSimulator scenario : scenarios) {
+                    scenario.getLineup().writeTo(this.in);
+                    this.in.writeInt(scenario.getTargetScore());
+                    this.in.writeInt(scenario.getOvers());
+                }
+                this.in.flush();
+                if (this.out.readInt() != ShardWorker.MAGIC) {
+                    throw new IOException(CustomExceptionMessages.Invalid_Worker_Message.toString());
+                }
+            } catch (IOException e) {
+                kill();
+                throw e;
+            }
+        }
+
+        /**
+         * Send @slice, wait for its result and merge it into the run. If the worker has not answered by the slice's
+         * deadline it is killed, and the read fails with an IOException as if it had crashed.
+         */
+        void play(Slice slice, Run run) throws IOException {
+            long timeout = SLICE_GRACE_MILLIS + slice.innings / MIN_INNINGS_PER_MILLI;
+            this.playing = slice;
+            CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS).execute(() -> {
+                if (this.playing == slice) {
+                    kill();
+                }
+            });
+            MatchSimulator scenario = run.scenarios.get(slice.scenario);
+            SimulationResult partial = new SimulationResult(scenario.getLineup(), scenario.getOvers());
+            try {
+                this.in.writeByte(ShardWorker.SLICE);
+                this.in.writeInt(slice.scenario);
+                this.in.writeLong(slice.first);
+                this.in.writeLong(slice.innings);
+                this.in.writeLong(slice.seed);
+                this.in.flush();
+                if (this.out.readByte() != ShardWorker.RESULT || this.out.readInt() != slice.scenario || this.out.readLong() != slice.first) {
+                    throw new IOException(CustomExceptionMessages.Invalid_Worker_Message.toString());
+                }
+                partial.readFrom(this.out);
+            } finally {
+                this.playing = null;
+            }
+            synchronized (run) {
+                run.results.get(slice.scenario).merge(partial);
+            }
+        }
+
+        void quit() {
+            try {
+                this.in.writeByte(ShardWorker.QUIT);
+                this.in.close();
+                if (!this.process.waitFor(10, TimeUnit.SECONDS)) {
+                    kill();
+                }
+            } catch (IOException e) {
+                kill();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                kill();
+            }
+        }
+
+        void kill() {
+            this.process.destroyForcibly();
+        }
+    }
+}
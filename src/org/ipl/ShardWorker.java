@@ -0,0 +1,82 @@
+package org.ipl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Worker JVM started by ShardCoordinator. Reads the scenarios and then one slice at a time from stdin, plays the
+ * slice on its own fork-join pool and writes the SimulationResult back on stdout. Anything printed goes to stderr,
+ * stdout carries only the protocol:
+ * <pre>
+ * coordinator to worker:
+ *   int   magic 'KPLW'
+ *   short version
+ *   int   scenario count, then per scenario a Lineup (refer to Lineup.writeTo()), int target score, int overs
+ *   per slice: byte SLICE, int scenario, long first innings, long innings, long seed
+ *   byte QUIT
+ * worker to coordinator:
+ *   int   magic 'KPLW'
+ *   per slice: byte RESULT, int scenario, long first innings, SimulationResult (refer to SimulationResult.writeTo())
+ * </pre>
+ * The worker exits on QUIT or when stdin is closed, so it never outlives its coordinator.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class ShardWorker {
+
+    static final int MAGIC = 0x4B504C57;                    // "KPLW"
+    static final short VERSION = 1;
+    static final byte SLICE = 1;
+    static final byte RESULT = 2;
+    static final byte QUIT = 3;
+
+    private ShardWorker() {
+    }
+
+    /**
+     * @param args The number of threads to simulate on
+     */
+    public static void main(String[] args) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16));
+        System.setOut(System.err);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in), 1 << 16));
+        ForkJoinPool pool = new ForkJoinPool(Integer.parseInt(args[0]));
+        try {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException(CustomExceptionMessages.Invalid_Worker_Message.toString());
+            }
+            MatchSimulator[] scenarios = new MatchSimulator[in.readInt()];
+            for (int i = 0; i < scenarios.length; i++) {
+                scenarios[i] = MatchSimulator.getInstance(Lineup.readFrom(in), in.readInt(), in.readInt());
+            }
+            out.writeInt(MAGIC);
+            out.flush();
+            while (in.readByte() == SLICE) {
+                int scenario = in.readInt();
+                long first = in.readLong();
+                long innings = in.readLong();
+                long seed = in.readLong();
+                SimulationResult result = scenarios[scenario].simulate(first, innings, seed, pool);
+                out.writeByte(RESULT);
+                out.writeInt(scenario);
+                out.writeLong(first);
+                result.writeTo(out);
+                out.flush();
+            }
+        } catch (EOFException e) {
+            // the coordinator has gone away
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package org.ipl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Aggregated outcome of many simulated innings of one chase: win/tie/loss counts, the distribution of balls remaining
+ * and wickets lost when the innings ended, per player runs and balls faced, and ScoreDistributions of the team total
+ * and of each batsman's runs, whose quantiles replace keeping every innings. Memory depends on the overs and the squad,
+ * never on the number of innings.
+ * Results of disjoint runs are merged by adding their counters, so the aggregate does not depend on how the innings
+ * were split between threads.
+ * Not ThreadSafe :- each worker fills its own instance, instances are merged once the workers have finished.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SimulationResult {
+    private final Lineup lineup;
+    private long innings;
+    private long wins;
+    private long ties;
+    private long losses;
+    private final long[] ballsRemainingCounts;              // index = balls remaining when the innings ended
+    private final long[] wicketsLostCounts;                 // index = wickets lost when the innings ended
+    private final long[] playerRuns;                        // total runs per batting position
+    private final long[] playerBalls;                       // total balls faced per batting position
+    private final ScoreDistribution scores;                 // team total per innings
+    private final ScoreDistribution[] playerScores;         // runs per innings per batting position, when it batted
+
+    SimulationResult(Lineup lineup, int overs) {
+        this.lineup = lineup;
+        this.ballsRemainingCounts = new long[overs * 6 + 1];
+        this.wicketsLostCounts = new long[lineup.size()];
+        this.playerRuns = new long[lineup.size()];
+        this.playerBalls = new long[lineup.size()];
+        this.scores = new ScoreDistribution(overs * 6 * 6);
+        this.playerScores = new ScoreDistribution[lineup.size()];
+        for (int i = 0; i < this.playerScores.length; i++) {
+            this.playerScores[i] = new ScoreDistribution(overs * 6 * 6);
+        }
+    }
+
+    /**
+     * Add a finished innings to the aggregate.
+     *
+     * @param innings The innings, must have ended
+     */
+    void record(Innings innings) {
+        recordResult(innings.getResult(), innings.getCurrentTeamScore(), innings.getBallsRemaining(), innings.getWickets());
+        for (int i = 0; i < this.playerRuns.length; i++) {
+            recordBatsman(i, innings.getRunScored(i), innings.getBallsPlayedCount(i), i < innings.getNextBatsman());
+        }
+    }
+
+    /**
+     * Add the team level outcome of a finished innings to the aggregate. Player counters are added separately.
+     *
+     * @param result         Innings.WON, Innings.TIED or Innings.LOST
+     * @param score          The team total when the innings ended
+     * @param ballsRemaining The balls left when the innings ended
+     * @param wickets        The wickets lost when the innings ended
+     */
+    void recordResult(int result, int score, int ballsRemaining, int wickets) {
+        this.innings++;
+        this.scores.record(score);
+        switch (result) {
+            case Innings.WON:
+                this.wins++;
+                break;
+            case Innings.TIED:
+                this.ties++;
+                break;
+            default:
+                this.losses++;
+                break;
+        }
+        this.ballsRemainingCounts[ballsRemaining]++;
+        this.wicketsLostCounts[wickets]++;
+    }
+
+    /**
+     * Add runs and balls faced by a batting position to the aggregate.
+     *
+     * @param position The zero based batting position
+     * @param runs     The runs scored
+     * @param balls    The balls faced
+     * @param batted   Whether the batsman came to the crease, only then the runs count towards his distribution
+     */
+    void recordBatsman(int position, int runs, int balls, boolean batted) {
+        this.playerRuns[position] += runs;
+        this.playerBalls[position] += balls;
+        if (batted) {
+            this.playerScores[position].record(runs);
+        }
+    }
+
+    /**
+     * Add the counters of another result for the same lineup and overs to this one.
+     *
+     * @param other The result to merge
+     * @return SimulationResult this instance
+     */
+    SimulationResult merge(SimulationResult other) {
+        this.innings += other.innings;
+        this.wins += other.wins;
+        this.ties += other.ties;
+        this.losses += other.losses;
+        add(this.ballsRemainingCounts, other.ballsRemainingCounts);
+        add(this.wicketsLostCounts, other.wicketsLostCounts);
+        add(this.playerRuns, other.playerRuns);
+        add(this.playerBalls, other.playerBalls);
+        this.scores.merge(other.scores);
+        for (int i = 0; i < this.playerScores.length; i++) {
+            this.playerScores[i].merge(other.playerScores[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Write every counter, e.g. to send a partial aggregate from a ShardWorker to the ShardCoordinator.
+     *
+     * @param out The stream to write to
+     * @throws IOException if the stream can not be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(this.innings);
+        out.writeLong(this.wins);
+        out.writeLong(this.ties);
+        out.writeLong(this.losses);
+        write(out, this.ballsRemainingCounts);
+        write(out, this.wicketsLostCounts);
+        write(out, this.playerRuns);
+        write(out, this.playerBalls);
+        this.scores.writeTo(out);
+        for (ScoreDistribution playerScore : this.playerScores) {
+            playerScore.writeTo(out);
+        }
+    }
+
+    /**
+     * Add counters written by writeTo() for the same lineup and overs to this result.
+     *
+     * @param in The stream to read from
+     * @throws IOException if the stream can not be read or was written for another lineup or overs
+     */
+    void readFrom(DataInput in) throws IOException {
+        this.innings += in.readLong();
+        this.wins += in.readLong();
+        this.ties += in.readLong();
+        this.losses += in.readLong();
+        read(in, this.ballsRemainingCounts);
+        read(in, this.wicketsLostCounts);
+        read(in, this.playerRuns);
+        read(in, this.playerBalls);
+        this.scores.readFrom(in);
+        for (ScoreDistribution playerScore : this.playerScores) {
+            playerScore.readFrom(in);
+        }
+    }
+
+    private static void write(DataOutput out, long[] counts) throws IOException {
+        out.writeInt(counts.length);
+        for (long count : counts) {
+            out.writeLong(count);
+        }
+    }
+
+    private static void read(DataInput in, long[] into) throws IOException {
+        if (in.readInt() != into.length) {
+            throw new IOException(CustomExceptionMessages.Invalid_Worker_Message.toString());
+        }
+        for (int i = 0; i < into.length; i++) {
+            into[i] += in.readLong();
+        }
+    }
+
+    private static void add(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    /**
+     * Get the number of simulated innings
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the number of innings in which the target was reached
+     *
+     * @return long The win count
+     */
+    public long getWins() {
+        return this.wins;
+    }
+
+    /**
+     * Get the number of innings that ended one run short of the target
+     *
+     * @return long The tie count
+     */
+    public long getTies() {
+        return this.ties;
+    }
+
+    /**
+     * Get the number of innings lost, by running out of balls or of batsmen
+     *
+     * @return long The loss count
+     */
+    public long getLosses() {
+        return this.losses;
+    }
+
+    /**
+     * Get the fraction of innings won
+     *
+     * @return double The estimated win probability, 0 if nothing was simulated
+     */
+    public double getWinProbability() {
+        return fraction(this.wins);
+    }
+
+    /**
+     * Get the fraction of innings tied
+     *
+     * @return double The estimated tie probability, 0 if nothing was simulated
+     */
+    public double getTieProbability() {
+        return fraction(this.ties);
+    }
+
+    /**
+     * Get the fraction of innings lost
+     *
+     * @return double The estimated loss probability, 0 if nothing was simulated
+     */
+    public double getLossProbability() {
+        return fraction(this.losses);
+    }
+
+    /**
+     * Get how many innings ended with a given number of balls remaining
+     *
+     * @return long[] counts indexed by balls remaining, 0 up to overs * 6
+     */
+    public long[] getBallsRemainingDistribution() {
+        return this.ballsRemainingCounts.clone();
+    }
+
+    /**
+     * Get how many innings ended with a given number of wickets lost
+     *
+     * @return long[] counts indexed by wickets lost, 0 up to team size - 1
+     */
+    public long[] getWicketsLostDistribution() {
+        return this.wicketsLostCounts.clone();
+    }
+
+    /**
+     * Get the average runs per innings scored by a player
+     *
+     * @param playerId The unique player id, as added to the team
+     * @return double The average runs, 0 if nothing was simulated
+     * @throws IllegalArgumentException if the player is not in the batting order
+     */
+    public double getAverageRuns(String playerId) {
+        return fraction(this.playerRuns[positionOf(playerId)]);
+    }
+
+    /**
+     * Get the average balls per innings faced by a player
+     *
+     * @param playerId The unique player id, as added to the team
+     * @return double The average balls faced, 0 if nothing was simulated
+     * @throws IllegalArgumentException if the player is not in the batting order
+     */
+    public double getAverageBallsFaced(String playerId) {
+        return fraction(this.playerBalls[positionOf(playerId)]);
+    }
+
+    /**
+     * Get the distribution of the team total, with its percentiles
+     *
+     * @return ScoreDistribution a copy, refer to ScoreDistribution.java for the error of its quantiles
+     */
+    public ScoreDistribution getScoreDistribution() {
+        return this.scores.copy();
+    }
+
+    /**
+     * Get the distribution of a player's runs over the innings in which he came to the crease
+     *
+     * @param playerId The unique player id, as added to the team
+     * @return ScoreDistribution a copy, refer to ScoreDistribution.java for the error of its quantiles
+     * @throws IllegalArgumentException if the player is not in the batting order
+     */
+    public ScoreDistribution getRunsDistribution(String playerId) {
+        return this.playerScores[positionOf(playerId)].copy();
+    }
+
+    /**
+     * Get the number of balls remaining that @quantile of the innings ended with or fewer, exactly
+     *
+     * @param quantile The quantile, from 0 to 1, e.g. 0.5 for the median
+     * @return int The balls remaining, 0 if nothing was simulated
+     * @throws IllegalArgumentException if @quantile is not between 0 and 1
+     */
+    public int getBallsRemainingQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Quantile.toString());
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * this.innings));
+        long seen = 0;
+        for (int balls = 0; balls < this.ballsRemainingCounts.length; balls++) {
+            seen += this.ballsRemainingCounts[balls];
+            if (seen >= rank) {
+                return balls;
+            }
+        }
+        return 0;
+    }
+
+    private int positionOf(String playerId) {
+        for (int i = 0; i < this.lineup.size(); i++) {
+            if (this.lineup.getPlayerId(i).equals(playerId)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Not_In_Batting_Order);
+    }
+
+    private double fraction(long count) {
+        return this.innings == 0 ? 0 : (double) count / this.innings;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.lineup.getTeamName()).append(": ").append(this.innings).append(" innings, won ").append(this.wins)
+                .append(", tied ").append(this.ties).append(", lost ").append(this.losses);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,621 @@
+package org.ipl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded server answering win probability queries for chases on a local port, for services that would otherwise
+ * build a Team and a MatchSimulator per request. One query is one line:
+ * <pre>
+ * request:  target overs playerId playerId ...      e.g. "40 4 IN001 IN002 IN003 IN004", batting order first to last
+ * response: OK win tie                               e.g. "OK 0.4327 0.0119"
+ *           ERR message                              for a query that can not be answered
+ * </pre>
+ * Connections may pipeline queries; responses come back in the order the queries were sent. query() answers the
+ * same scenarios in process.
+ * <li>
+ * Recent answers are kept in a bounded LRU cache.
+ * Identical scenarios in flight (same batting order, target and overs) share one CompletableFuture, so they cost one
+ * computation however many clients ask.
+ * New scenarios are batched: while a batch is being simulated, queries queue up and the next batch takes them all.
+ * Scenarios of a batch with the same batting order and overs share one simulation run, because an innings drawn from
+ * a random stream is the same ball for ball whatever the target until it reaches that target. One run without a
+ * target gives the final score of every innings, and with it the result for every target at once.
+ * </li>
+ * Every answer is the one MatchSimulator.simulate(innings, seed) gives for the scenario on its own, so answers do not
+ * depend on what else was asked at the same time.
+ * One selector thread does all socket I/O without blocking, one batcher thread forms batches and the simulation runs
+ * on a fork-join pool, so threads do not grow with the number of clients.
+ * Thread safe :- query() may be called from any number of threads.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SimulationServer implements Closeable {
+
+    private static final int MAX_LINE_BYTES = 1 << 12;
+    private static final int MIN_INNINGS_PER_TASK = 1024;
+    private static final byte[] NEWLINE = new byte[]{'\n'};
+
+    private final PlayerRegistry registry;
+    private final long innings;                             // innings simulated per scenario
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final LruCache<Scenario, WinProbability> cache;
+    private final Map<Scenario, CompletableFuture<WinProbability>> inFlight = new ConcurrentHashMap<>();
+    private final BlockingQueue<Scenario> pending = new LinkedBlockingQueue<>();      // in flight, not yet batched
+    private final Queue<Connection> ready = new ConcurrentLinkedQueue<>();       // connections with a response to send
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread io;
+    private final Thread batcher;
+    private volatile boolean closed;
+
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong runs = new AtomicLong();
+
+    private SimulationServer(PlayerRegistry registry, int port, long innings, long seed, int cacheCapacity, ForkJoinPool pool) throws IOException {
+        this.registry = registry;
+        this.innings = innings;
+        this.seed = seed;
+        this.pool = pool;
+        this.cache = new LruCache<>(cacheCapacity);
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        try {
+            this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            this.server.configureBlocking(false);
+            this.server.register(this.selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            this.server.close();
+            this.selector.close();
+            throw e;
+        }
+        this.io = new Thread(this::serve, "kpl-server-io");
+        this.batcher = new Thread(this::batch, "kpl-server-batch");
+        this.io.start();
+        this.batcher.start();
+    }
+
+    /**
+     * Start a server on the loopback interface, simulating on the common fork-join pool.
+     *
+     * @param registry      The registry the queried players are picked from
+     * @param port          The port to listen on, 0 for any free port
+     * @param innings       The innings simulated per scenario. Must be greater than 0.
+     * @param seed          The root seed of every simulation
+     * @param cacheCapacity The number of answers to keep. Must be greater than 0.
+     * @return SimulationServer the running server
+     * @throws IOException              if the port can not be bound
+     * @throws IllegalArgumentException
+     */
+    public static SimulationServer start(PlayerRegistry registry, int port, long innings, long seed, int cacheCapacity) throws IOException {
+        return start(registry, port, innings, seed, cacheCapacity, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Start a server on the loopback interface.
+     *
+     * @param registry      The registry the queried players are picked from
+     * @param port          The port to listen on, 0 for any free port
+     * @param innings       The innings simulated per scenario. Must be greater than 0.
+     * @param seed          The root seed of every simulation
+     * @param cacheCapacity The number of answers to keep. Must be greater than 0.
+     * @param pool          The pool simulations run on
+     * @return SimulationServer the running server
+     * @throws IOException              if the port can not be bound
+     * @throws IllegalArgumentException
+     */
+    public static SimulationServer start(PlayerRegistry registry, int port, long innings, long seed, int cacheCapacity,
+                                         ForkJoinPool pool) throws IOException {
+        if (innings <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        } else if (cacheCapacity <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Cache_Size.toString());
+        }
+        return new SimulationServer(registry, port, innings, seed, cacheCapacity, pool);
+    }
+
+    /**
+     * Get the port the server listens on
+     *
+     * @return int The local port
+     */
+    public int getPort() {
+        return this.server.socket().getLocalPort();
+    }
+
+    /**
+     * Ask for the probabilities of a chase, the same query as a line sent to the port.
+     *
+     * @param battingOrder The player ids in batting order, at least two
+     * @param targetScore  The target. Must not be negative.
+     * @param overs        The overs of the innings, from 1 to 127
+     * @return CompletableFuture<WinProbability> the probabilities, complete at once if the answer is cached
+     * @throws IllegalArgumentException if a player is not registered or appears twice, or the chase is not valid
+     */
+    public CompletableFuture<WinProbability> query(List<String> battingOrder, int targetScore, int overs) {
+        if (battingOrder.size() < 2) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Has_Less_Than_Two_Players.toString());
+        } else if (targetScore < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Negative.toString());
+        } else if (overs <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        } else if (overs >= BallEventLog.MAX_OVERS) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Overs_Out_Of_Range.toString());
+        }
+        int[] playerIndexes = new int[battingOrder.size()];
+        Set<String> seen = new HashSet<>();
+        for (int position = 0; position < playerIndexes.length; position++) {
+            String playerId = battingOrder.get(position);
+            if (!seen.add(playerId)) {
+                throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Duplicate_Player);
+            }
+            playerIndexes[position] = this.registry.indexOf(playerId);
+        }
+        if (this.closed) {
+            throw new IllegalStateException(CustomExceptionMessages.Server_Is_Closed.toString());
+        }
+        this.queries.incrementAndGet();
+        Scenario scenario = new Scenario(playerIndexes, targetScore, overs);
+        WinProbability cached = this.cache.get(scenario);
+        if (cached != null) {
+            this.cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+        boolean[] created = new boolean[1];
+        CompletableFuture<WinProbability> answer = this.inFlight.computeIfAbsent(scenario, key -> {
+            created[0] = true;
+            return new CompletableFuture<>();
+        });
+        if (created[0]) {
+            this.pending.add(scenario);
+            if (this.closed && this.inFlight.remove(scenario, answer)) {
+                answer.completeExceptionally(new IllegalStateException(CustomExceptionMessages.Server_Is_Closed.toString()));
+            }
+        } else {
+            this.coalesced.incrementAndGet();
+        }
+        return answer;
+    }
+
+    /**
+     * Batcher thread: take every pending scenario, simulate them grouped by batting order and overs, answer, repeat.
+     */
+    private void batch() {
+        List<Scenario> batch = new ArrayList<>();
+        while (!this.closed) {
+            try {
+                batch.add(this.pending.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            this.pending.drainTo(batch);
+            try {
+                answer(batch);
+            } catch (RuntimeException e) {
+                for (Scenario scenario : batch) {
+                    CompletableFuture<WinProbability> answer = this.inFlight.remove(scenario);
+                    if (answer != null) {
+                        answer.completeExceptionally(e);
+                    }
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void answer(List<Scenario> batch) {
+        Map<Scenario, List<Scenario>> groups = new LinkedHashMap<>();
+        for (Scenario scenario : batch) {
+            groups.computeIfAbsent(new Scenario(scenario.playerIndexes, 0, scenario.overs), group -> new ArrayList<>()).add(scenario);
+        }
+        List<FinalScoreTask> tasks = new ArrayList<>(groups.size());
+        for (Scenario group : groups.keySet()) {
+            Lineup lineup = Lineup.getInstance("", this.registry, group.playerIndexes);
+            tasks.add(new FinalScoreTask(lineup, group.overs, this.seed, 0, this.innings));
+        }
+        this.pool.invoke(new RecursiveAction() {
+            static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        this.batches.incrementAndGet();
+        this.runs.addAndGet(tasks.size());
+
+        int task = 0;
+        for (List<Scenario> scenarios : groups.values()) {
+            FinalScores scores = tasks.get(task++).join();
+            for (Scenario scenario : scenarios) {
+                WinProbability probability = scores.probability(scenario.targetScore, this.innings);
+                this.cache.put(scenario, probability);
+                this.inFlight.remove(scenario).complete(probability);
+            }
+        }
+    }
+
+    /**
+     * Selector thread: accept, read query lines, send the responses that are ready.
+     */
+    private void serve() {
+        try {
+            while (!this.closed) {
+                this.selector.select();
+                for (SelectionKey key : this.selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+                this.selector.selectedKeys().clear();
+                Connection connection;
+                while ((connection = this.ready.poll()) != null) {
+                    try {
+                        connection.flush();
+                    } catch (IOException e) {
+                        connection.close();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            this.closed = true;
+        } finally {
+            for (SelectionKey key : this.selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException e) {
+                    // closing anyway
+                }
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = this.server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        SelectionKey key = channel.register(this.selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Get the number of queries received, over the port or through query()
+     *
+     * @return long The query count
+     */
+    public long getQueries() {
+        return this.queries.get();
+    }
+
+    /**
+     * Get the number of queries answered from the cache
+     *
+     * @return long The cache hits
+     */
+    public long getCacheHits() {
+        return this.cacheHits.get();
+    }
+
+    /**
+     * Get the number of queries that joined an identical scenario already in flight
+     *
+     * @return long The coalesced queries
+     */
+    public long getCoalesced() {
+        return this.coalesced.get();
+    }
+
+    /**
+     * Get the number of batches simulated
+     *
+     * @return long The batch count
+     */
+    public long getBatches() {
+        return this.batches.get();
+    }
+
+    /**
+     * Get the number of simulation runs, one per batting order and overs in a batch
+     *
+     * @return long The run count
+     */
+    public long getSimulationRuns() {
+        return this.runs.get();
+    }
+
+    /**
+     * Stop listening, close every connection and fail the queries still in flight.
+     *
+     * @throws IOException if the listening socket can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.selector.wakeup();
+        this.batcher.interrupt();
+        try {
+            this.io.join();
+            this.batcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.server.close();
+        this.selector.close();
+        IllegalStateException closing = new IllegalStateException(CustomExceptionMessages.Server_Is_Closed.toString());
+        for (CompletableFuture<WinProbability> answer : this.inFlight.values()) {
+            answer.completeExceptionally(closing);
+        }
+    }
+
+    /**
+     * The line protocol of one client, only used on the selector thread except for the ready signal.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE_BYTES);
+        private final Deque<CompletableFuture<String>> responses = new ArrayDeque<>();    // in query order
+        private final Deque<ByteBuffer> output = new ArrayDeque<>();
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (this.channel.read(this.input) < 0) {
+                close();
+                return;
+            }
+            this.input.flip();
+            int start = 0;
+            for (int i = this.input.position(); i < this.input.limit(); i++) {
+                if (this.input.get(i) == '\n') {
+                    respond(new String(this.input.array(), start, i - start, StandardCharsets.US_ASCII).trim());
+                    start = i + 1;
+                }
+            }
+            this.input.position(start);
+            this.input.compact();
+            if (!this.input.hasRemaining()) {
+                throw new IOException(CustomExceptionMessages.Invalid_Query.toString());    // line too long
+            }
+            flush();
+        }
+
+        private void respond(String line) {
+            CompletableFuture<String> response;
+            try {
+                String[] fields = line.split("\\s+");
+                if (fields.length < 4) {
+                    throw new IllegalArgumentException(CustomExceptionMessages.Invalid_Query.toString());
+                }
+                response = query(Arrays.asList(fields).subList(2, fields.length), Integer.parseInt(fields[0]), Integer.parseInt(fields[1]))
+                        .thenApply(probability -> "OK " + probability.getWinProbability() + " " + probability.getTieProbability());
+            } catch (NumberFormatException e) {
+                response = CompletableFuture.completedFuture("ERR " + CustomExceptionMessages.Invalid_Query);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.completedFuture("ERR " + e.getMessage());
+            }
+            this.responses.add(response);
+            if (!response.isDone()) {
+                response.whenComplete((answer, failure) -> {
+                    ready.add(this);
+                    selector.wakeup();
+                });
+            }
+        }
+
+        /**
+         * Send the responses that are ready, stopping at the first query still being simulated.
+         */
+        void flush() throws IOException {
+            while (!this.responses.isEmpty() && this.responses.peekFirst().isDone()) {
+                CompletableFuture<String> response = this.responses.pollFirst();
+                String line;
+                try {
+                    line = response.join();
+                } catch (CompletionException e) {
+                    line = "ERR " + e.getCause().getMessage();
+                }
+                this.output.add(ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII)));
+                this.output.add(ByteBuffer.wrap(NEWLINE));
+            }
+            while (!this.output.isEmpty()) {
+                ByteBuffer head = this.output.peekFirst();
+                this.channel.write(head);
+                if (head.hasRemaining()) {
+                    break;
+                }
+                this.output.pollFirst();
+            }
+            if (this.key.isValid()) {
+                this.key.interestOps(this.output.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+
+        void close() {
+            this.key.cancel();
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                // the client has gone
+            }
+        }
+    }
+
+    /**
+     * Batting order and overs, with the target; the target is 0 in the key of a group of scenarios.
+     */
+    private static final class Scenario {
+        private final int[] playerIndexes;
+        private final int targetScore;
+        private final int overs;
+        private final int hash;
+
+        Scenario(int[] playerIndexes, int targetScore, int overs) {
+            this.playerIndexes = playerIndexes;
+            this.targetScore = targetScore;
+            this.overs = overs;
+            this.hash = (Arrays.hashCode(playerIndexes) * 31 + targetScore) * 31 + overs;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Scenario)) {
+                return false;
+            }
+            Scenario scenario = (Scenario) other;
+            return this.targetScore == scenario.targetScore && this.overs == scenario.overs
+                    && Arrays.equals(this.playerIndexes, scenario.playerIndexes);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Innings per final score of a run without a target, split by whether the overs ran out or the team was all out.
+     */
+    private static final class FinalScores {
+        private final long[] oversUsed;                     // index = final score, innings that lasted every ball
+        private final long[] allOut;                        // index = final score, innings that ran out of batsmen
+        private long allOutFirstBall;                       // innings all out off the first ball, before any target check
+
+        FinalScores(int overs) {
+            this.oversUsed = new long[overs * 6 * 6 + 1];
+            this.allOut = new long[overs * 6 * 6 + 1];
+        }
+
+        FinalScores merge(FinalScores other) {
+            for (int score = 0; score < this.oversUsed.length; score++) {
+                this.oversUsed[score] += other.oversUsed[score];
+                this.allOut[score] += other.allOut[score];
+            }
+            this.allOutFirstBall += other.allOutFirstBall;
+            return this;
+        }
+
+        /**
+         * An innings chasing @targetScore wins if its final score without a target reaches it, ties if it used every
+         * ball and ended one run short. The target is first checked after the first ball, so a target of 0 is lost by
+         * an innings all out off that ball.
+         */
+        WinProbability probability(int targetScore, long innings) {
+            long wins = targetScore == 0 ? -this.allOutFirstBall : 0;
+            for (int score = targetScore; score < this.oversUsed.length; score++) {
+                wins += this.oversUsed[score] + this.allOut[score];
+            }
+            long ties = targetScore >= 1 && targetScore - 1 < this.oversUsed.length ? this.oversUsed[targetScore - 1] : 0;
+            return new WinProbability((double) wins / innings, (double) ties / innings);
+        }
+    }
+
+    /**
+     * Plays innings @first to @first + @innings - 1 of a batting order with no target, innings i from stream i of the
+     * seed, halving the range down to MIN_INNINGS_PER_TASK.
+     */
+    private static final class FinalScoreTask extends RecursiveTask<FinalScores> {
+        static final long serialVersionUID = 1L;
+
+        private final Lineup lineup;
+        private final int overs;
+        private final long seed;
+        private final long first;
+        private final long innings;
+
+        FinalScoreTask(Lineup lineup, int overs, long seed, long first, long innings) {
+            this.lineup = lineup;
+            this.overs = overs;
+            this.seed = seed;
+            this.first = first;
+            this.innings = innings;
+        }
+
+        @Override
+        protected FinalScores compute() {
+            if (this.innings > MIN_INNINGS_PER_TASK) {
+                long half = this.innings / 2;
+                FinalScoreTask left = new FinalScoreTask(this.lineup, this.overs, this.seed, this.first, half);
+                left.fork();
+                FinalScores right = new FinalScoreTask(this.lineup, this.overs, this.seed, this.first + half, this.innings - half).compute();
+                return left.join().merge(right);
+            }
+            FinalScores scores = new FinalScores(this.overs);
+            Innings current = new Innings(this.lineup, Integer.MAX_VALUE, this.overs);
+            StreamRandom random = new StreamRandom(this.seed, this.first);
+            for (long i = this.first; i < this.first + this.innings; i++) {
+                random.reseed(this.seed, i);
+                current.reset();
+                current.play(random);
+                if (current.getWickets() == this.lineup.size() - 1) {
+                    scores.allOut[current.getCurrentTeamScore()]++;
+                    if (current.getBallsBowled() == 1) {
+                        scores.allOutFirstBall++;
+                    }
+                } else {
+                    scores.oversUsed[current.getCurrentTeamScore()]++;
+                }
+            }
+            return scores;
+        }
+    }
+}
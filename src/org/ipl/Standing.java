@@ -0,0 +1,100 @@
+package org.ipl;
+
+/**
+ * One row of a tournament points table.
+ * Immutable :- a snapshot taken when the table was read.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class Standing {
+    private final String teamName;
+    private final int played;
+    private final int won;
+    private final int tied;
+    private final int lost;
+    private final int points;
+    private final double netRunRate;
+
+    Standing(String teamName, int played, int won, int tied, int lost, int points, double netRunRate) {
+        this.teamName = teamName;
+        this.played = played;
+        this.won = won;
+        this.tied = tied;
+        this.lost = lost;
+        this.points = points;
+        this.netRunRate = netRunRate;
+    }
+
+    /**
+     * Get team name
+     *
+     * @return String Team Name
+     */
+    public String getTeamName() {
+        return this.teamName;
+    }
+
+    /**
+     * Get the number of fixtures completed
+     *
+     * @return int The fixtures played
+     */
+    public int getPlayed() {
+        return this.played;
+    }
+
+    /**
+     * Get the number of fixtures won
+     *
+     * @return int The fixtures won
+     */
+    public int getWon() {
+        return this.won;
+    }
+
+    /**
+     * Get the number of fixtures tied
+     *
+     * @return int The fixtures tied
+     */
+    public int getTied() {
+        return this.tied;
+    }
+
+    /**
+     * Get the number of fixtures lost
+     *
+     * @return int The fixtures lost
+     */
+    public int getLost() {
+        return this.lost;
+    }
+
+    /**
+     * Get the league points, 2 per win and 1 per tie
+     *
+     * @return int The points
+     */
+    public int getPoints() {
+        return this.points;
+    }
+
+    /**
+     * Get the net run rate: runs scored per over faced minus runs conceded per over bowled
+     *
+     * @return double The net run rate
+     */
+    public double getNetRunRate() {
+        return this.netRunRate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.teamName).append(" P ").append(this.played).append(" W ").append(this.won).append(" T ").append(this.tied)
+                .append(" L ").append(this.lost).append(" Pts ").append(this.points).append(" NRR ").append(String.format("%.3f", this.netRunRate));
+        return sb.toString();
+    }
+}
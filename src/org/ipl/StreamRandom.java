@@ -0,0 +1,75 @@
+package org.ipl;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Seedable random source for reproducible simulations. A stream is keyed by a root seed and a stream index, e.g. the
+ * number of the innings, so the draws an innings sees depend only on the seed and on which innings it is, never on
+ * the thread that plays it or the order innings are played in.
+ * The generator is SplitMix64, the algorithm behind SplittableRandom: a 64-bit counter advanced by a fixed odd gamma,
+ * each value run through a bijective mixing function. The starting counter is the mixed pair (seed, stream). Unlike
+ * SplittableRandom an instance can be moved to another stream with reseed(), so a worker keeps one instance for all
+ * of its innings instead of allocating one per innings.
+ * Not ThreadSafe :- one instance per worker thread.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class StreamRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;      // odd, 2^64 / golden ratio
+
+    private long counter;
+
+    StreamRandom(long rootSeed, long stream) {
+        reseed(rootSeed, stream);
+    }
+
+    /**
+     * Move to the start of another stream
+     *
+     * @param rootSeed The seed of the whole run
+     * @param stream   The stream index, e.g. the innings number
+     */
+    void reseed(long rootSeed, long stream) {
+        this.counter = mix64(rootSeed ^ mix64((stream + 1) * GOLDEN_GAMMA));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(this.counter += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Unbiased draw from [0, bound) by multiply and shift, rejecting only the few low products that would skew it.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        if ((product & 0xFFFFFFFFL) < bound) {
+            long threshold = (1L << 32) % bound;
+            while ((product & 0xFFFFFFFFL) < threshold) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * David Stafford's variant 13 of the MurmurHash3 finalizer, as used by SplittableRandom.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,11 +1,11 @@
 package org.ipl;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
+import java.util.Arrays;
 
 /**
  * Represents the Team
+ * The batting order and one reusable Player slot per batting position are kept for the life of the team, so reset()
+ * brings the whole side back after an innings without allocating.
  * Not thread safe
  * final :- class can not inherited, methods can not overridden by subclasses.
  *
@@ -14,15 +14,22 @@ import java.util.Queue;
  * @since 19-08-2018
  */
 public final class Team {
-    private final Queue<String> playerQueue;                 // The queue to store batting order
+    private final PlayerRegistry registry;                   // The pool the players are picked from
     private String teamName;
-    private List<Player> playerStatsList;                    // player state is stored in here after the player has retired
+    private int[] battingOrder;                              // dense player ids in batting order
+    private Player[] playerSlots;                            // reusable player per batting position, created on first use
+    private Player[] playerStats;                            // player state is stored in here after the player has retired
+    private int playerCount;
+    private int nextBatsman;                                 // batting position of the next man in
+    private int playerStatsCount;
 
 
-    private Team(String teamName) {
+    private Team(String teamName, PlayerRegistry registry) {
         this.teamName = teamName;
-        playerQueue = new LinkedList<>();
-        playerStatsList = new LinkedList<>();
+        this.registry = registry;
+        this.battingOrder = new int[11];
+        this.playerSlots = new Player[11];
+        this.playerStats = new Player[11];
     }
 
     /**
@@ -32,16 +39,37 @@ public final class Team {
      * @return Team the instance of @teamName
      */
     public static Team getInstance(String teamName) {
-        return new Team(teamName);
+        return new Team(teamName, PlayerRegistry.getBuiltIn());
     }
 
     /**
-     * Return the state of the retired players
+     * Get the team Instance picking players from a registry
      *
-     * @return List<Player> a list of retired players
+     * @param teamName The team name
+     * @param registry The registry player ids are resolved against, e.g. one loaded with PlayerRegistry.load()
+     * @return Team the instance of @teamName
      */
-    List<Player> getPlayerStats() {
-        return playerStatsList;
+    public static Team getInstance(String teamName, PlayerRegistry registry) {
+        return new Team(teamName, registry);
+    }
+
+    /**
+     * Return the number of retired players
+     *
+     * @return int The number of players added with addPlayerStats() since the last reset
+     */
+    int getPlayerStatsCount() {
+        return this.playerStatsCount;
+    }
+
+    /**
+     * Return the state of a retired player
+     *
+     * @param index The retirement order, 0 for the first player out
+     * @return Player the retired player
+     */
+    Player getPlayerStats(int index) {
+        return this.playerStats[index];
     }
 
     /**
@@ -50,7 +78,7 @@ public final class Team {
      * @param player The player
      */
     void addPlayerStats(Player player) {
-        this.playerStatsList.add(player);
+        this.playerStats[this.playerStatsCount++] = player;
     }
 
     /**
@@ -60,26 +88,64 @@ public final class Team {
      * on object after match has started.
      *
      * @param playerId The unique player id to be added to batting order
+     * @throws IllegalArgumentException if the player is not in the team's registry
      */
     public void addPlayer(String playerId) {
-        if (this.playerQueue.contains(playerId)) {
-            return;
+        if (!this.registry.contains(playerId)) {
+            throw new IllegalArgumentException(playerId + " " + CustomExceptionMessages.Unknown_Player);
+        }
+        int playerIndex = this.registry.indexOf(playerId);
+        for (int i = 0; i < this.playerCount; i++) {
+            if (this.battingOrder[i] == playerIndex) {
+                return;
+            }
         }
 
-        this.playerQueue.add(playerId);
+        if (this.playerCount == this.battingOrder.length) {
+            this.battingOrder = Arrays.copyOf(this.battingOrder, this.playerCount * 2);
+            this.playerSlots = Arrays.copyOf(this.playerSlots, this.playerCount * 2);
+            this.playerStats = Arrays.copyOf(this.playerStats, this.playerCount * 2);
+        }
+        this.battingOrder[this.playerCount++] = playerIndex;
+    }
+
+    /**
+     * Bring every player back for a new innings: the batting order starts again from the openers, retired player
+     * stats are cleared and each player's slot is reset when the player next comes in.
+     */
+    public void reset() {
+        this.nextBatsman = 0;
+        this.playerStatsCount = 0;
     }
 
     /**
-     * Get the next man in from the queue
+     * Get the next man in from the batting order.
      *
-     * @return Player
-     * @throws KPLException
+     * @return Player the player's slot, in a fresh not out state
+     * @throws IllegalStateException if every player has already batted
      */
-    Player getPlayer() throws KPLException {
+    Player getPlayer() {
         if (isEmpty()) {
-            throw (new KPLException("Entire team has been bowled out"));
+            throw new IllegalStateException(this.teamName + " " + CustomExceptionMessages.Has_No_Player);
+        }
+        Player player = this.playerSlots[this.nextBatsman];
+        if (player == null) {
+            player = Player.getInstance(this.registry, this.battingOrder[this.nextBatsman]);
+            this.playerSlots[this.nextBatsman] = player;
+        } else {
+            player.reset();
         }
-        return Player.getInstance(playerQueue.remove());
+        this.nextBatsman++;
+        return player;
+    }
+
+    /**
+     * Take an immutable snapshot of the full batting order, whether or not an innings is in progress.
+     *
+     * @return Lineup the batting order with player data resolved
+     */
+    Lineup getLineup() {
+        return Lineup.getInstance(this.teamName, this.registry, Arrays.copyOf(this.battingOrder, this.playerCount));
     }
 
     /**
@@ -88,7 +154,16 @@ public final class Team {
      * @return int The no of players who has not retired
      */
     int getNotBowledOutPlayerCount() {
-        return playerQueue.size() + 2;
+        return this.playerCount - this.nextBatsman + 2;
+    }
+
+    /**
+     * Get the registry the team picks its players from
+     *
+     * @return PlayerRegistry The registry
+     */
+    PlayerRegistry getRegistry() {
+        return this.registry;
     }
 
     /**
@@ -101,13 +176,22 @@ public final class Team {
         return this.teamName;
     }
 
+    /**
+     * Get the number of players in the batting order
+     *
+     * @return int The player count
+     */
+    int size() {
+        return this.playerCount;
+    }
+
     /**
      * Check if the entire team has been bowled out.
      *
      * @return boolean  True, if all players has been bowled out
      */
     boolean isEmpty() {
-        return playerQueue.isEmpty();
+        return this.nextBatsman == this.playerCount;
     }
 
 }
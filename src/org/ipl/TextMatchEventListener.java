@@ -0,0 +1,99 @@
+package org.ipl;
+
+import java.io.PrintStream;
+
+/**
+ * Listener that renders the match commentary in the original text format. Lines are collected in one reusable buffer
+ * and written in a single call when the match ends, instead of one synchronized println per line: to a PrintStream,
+ * or to a CommentaryWriter shared by many threads for high volume logs on disk.
+ * Not ThreadSafe :- use one instance per match at a time.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class TextMatchEventListener implements MatchEventListener {
+    private static final String LINE_SEPARATOR = System.lineSeparator();   // what println terminates lines with
+
+    private final PrintStream out;                          // null when writing to a CommentaryWriter
+    private final CommentaryWriter writer;                  // null when writing to a PrintStream
+    private final StringBuilder sb;
+
+    private TextMatchEventListener(PrintStream out, CommentaryWriter writer) {
+        this.out = out;
+        this.writer = writer;
+        this.sb = new StringBuilder(1024);
+    }
+
+    /**
+     * Get a listener writing to @out
+     *
+     * @param out The stream to write the commentary to
+     * @return TextMatchEventListener
+     */
+    public static TextMatchEventListener getInstance(PrintStream out) {
+        return new TextMatchEventListener(out, null);
+    }
+
+    /**
+     * Get a listener writing to @writer, each match's commentary in one piece
+     *
+     * @param writer The commentary writer, may be shared with listeners on other threads
+     * @return TextMatchEventListener
+     */
+    public static TextMatchEventListener getInstance(CommentaryWriter writer) {
+        return new TextMatchEventListener(null, writer);
+    }
+
+    @Override
+    public void overStarted(int oversLeft, int runsToWin) {
+        sb.append("\n").append(oversLeft).append(" overs left. ").append(runsToWin).append(" runs to win.").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void ballPlayed(int over, int ball, String playerName, int runs) {
+        String runPlurality = runs <= 1 ? " run" : " runs";
+        sb.append(over).append(".").append(ball).append(" ").append(playerName).append(" scores ").append(runs).append(runPlurality).append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void wicketFell(int over, int ball, String playerName) {
+        sb.append(over).append(".").append(ball).append(" ").append(playerName).append(" bowled out").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void matchWon(String teamName, int wickets, int ballsRemaining) {
+        sb.append("\n").append(teamName).append(" won by ").append(wickets).append(" wicket and ").append(ballsRemaining).append(" balls remaining").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void allOut(String teamName, int runsShort) {
+        sb.append("\n").append(teamName).append(" lost the match by ").append(runsShort).append(" runs").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void oversCompleted(String teamName, int runsShort) {
+        sb.append(teamName).append(" lost  by ").append(runsShort).append(" runs").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void matchTied() {
+        sb.append("Match was a tie").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void batsmanSummary(String playerName, int runs, int balls, boolean notOut) {
+        sb.append(playerName).append(" - ").append(runs).append(notOut ? "* (" : " (").append(balls).append(" balls)").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void matchEnded() {
+        if (writer != null) {
+            writer.writeUnchecked(sb);
+        } else {
+            out.append(sb);
+            out.flush();
+        }
+        sb.setLength(0);
+    }
+}
@@ -0,0 +1,217 @@
+package org.ipl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * A league of teams playing each other once in a round robin, followed by a knockout between the top of the table:
+ * semi-finals 1 v 4 and 2 v 3 and a final, or just a final with fewer than four teams.
+ * Every fixture is simulated many times. In each simulated match the side batting first plays out its overs, then
+ * the other side chases one more than that score, with the same rules as Match.startMatch(). The side that wins more
+ * of the simulated matches wins the fixture; in the knockout an even split goes to the higher placed team.
+ * Fixtures are tasks on a fork-join pool rather than threads, so a league of thousands of fixtures only needs as many
+ * threads as the pool has. Each task records its fixture in the points table as soon as it completes, and the table
+ * can be read at any time while the league is in progress.
+ * A seeded tournament is reproducible: every fixture draws from its own stream of the seed, refer to
+ * StreamRandom.java, so the table and the winner do not depend on the pool or the order fixtures finish in.
+ * Batting orders are copied from the teams when the tournament is created; the teams themselves are never consumed.
+ * Thread safe :- getStandings() and the progress getters may be called from any thread; start() once.
+ * final :- can not be inherited, methods can not be overridden.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class Tournament {
+
+    private final Lineup[] lineups;
+    private final int overs;
+    private final int simulations;                          // simulated matches per fixture
+    private final int[][] fixtures;                         // {batting first, chasing} team indexes
+    private final boolean seeded;
+    private final long seed;
+    private final PointsTable table;
+    private final AtomicInteger completedFixtures = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private Tournament(Lineup[] lineups, int overs, int simulations, boolean seeded, long seed) {
+        this.lineups = lineups;
+        this.overs = overs;
+        this.simulations = simulations;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.fixtures = roundRobin(lineups.length);
+        String[] teamNames = new String[lineups.length];
+        for (int team = 0; team < lineups.length; team++) {
+            teamNames[team] = lineups[team].getTeamName();
+        }
+        this.table = new PointsTable(teamNames);
+    }
+
+    /**
+     * Returns the instance of Tournament class.
+     *
+     * @param teams                 The teams in the league, at least two. Each team must have at least two players
+     * @param overs                 The numbers of overs per innings. Must be greater than 0.
+     * @param simulationsPerFixture The number of matches simulated for each fixture. Must be greater than 0.
+     * @return Tournament An instance of Tournament class
+     * @throws IllegalArgumentException
+     */
+    public static Tournament getInstance(List<Team> teams, int overs, int simulationsPerFixture) throws IllegalArgumentException {
+        return getInstance(teams, overs, simulationsPerFixture, false, 0);
+    }
+
+    /**
+     * Returns the instance of a reproducible Tournament: the same seed always gives the same table and winner.
+     *
+     * @param teams                 The teams in the league, at least two. Each team must have at least two players
+     * @param overs                 The numbers of overs per innings. Must be greater than 0.
+     * @param simulationsPerFixture The number of matches simulated for each fixture. Must be greater than 0.
+     * @param seed                  The root seed
+     * @return Tournament An instance of Tournament class
+     * @throws IllegalArgumentException
+     */
+    public static Tournament getInstance(List<Team> teams, int overs, int simulationsPerFixture, long seed) throws IllegalArgumentException {
+        return getInstance(teams, overs, simulationsPerFixture, true, seed);
+    }
+
+    private static Tournament getInstance(List<Team> teams, int overs, int simulationsPerFixture, boolean seeded, long seed) {
+        if (teams.size() < 2) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Has_Less_Than_Two_Teams.toString());
+        } else if (overs <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        } else if (simulationsPerFixture <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Simulation_Count_Not_Positive.toString());
+        }
+        Lineup[] lineups = new Lineup[teams.size()];
+        for (int team = 0; team < lineups.length; team++) {
+            lineups[team] = teams.get(team).getLineup();
+            if (lineups[team].size() < 2) {
+                throw new IllegalArgumentException(lineups[team].getTeamName() + " " + CustomExceptionMessages.Has_Less_Than_Two_Players);
+            }
+        }
+        return new Tournament(lineups, overs, simulationsPerFixture, seeded, seed);
+    }
+
+    /**
+     * Every pair of teams once, alternating which of the two bats first.
+     */
+    private static int[][] roundRobin(int teams) {
+        int[][] fixtures = new int[teams * (teams - 1) / 2][];
+        int fixture = 0;
+        for (int i = 0; i < teams; i++) {
+            for (int j = i + 1; j < teams; j++) {
+                fixtures[fixture++] = (i + j) % 2 == 0 ? new int[]{i, j} : new int[]{j, i};
+            }
+        }
+        return fixtures;
+    }
+
+    /**
+     * Play the tournament on the common fork-join pool and wait for it to finish.
+     *
+     * @return String The name of the winning team
+     */
+    public String play() {
+        return start(ForkJoinPool.commonPool()).join();
+    }
+
+    /**
+     * Start the tournament on the given pool and return without waiting. All league fixtures are submitted at once;
+     * the knockout starts when the last of them has been recorded.
+     *
+     * @param pool The pool to run on, its parallelism decides how many fixtures are played at once
+     * @return CompletableFuture<String> completes with the name of the winning team
+     * @throws IllegalStateException if the tournament has already been started
+     */
+    public CompletableFuture<String> start(ForkJoinPool pool) {
+        if (!this.started.compareAndSet(false, true)) {
+            throw new IllegalStateException(CustomExceptionMessages.Tournament_Already_Started.toString());
+        }
+        CompletableFuture<?>[] league = new CompletableFuture<?>[this.fixtures.length];
+        for (int fixture = 0; fixture < this.fixtures.length; fixture++) {
+            int[] teams = this.fixtures[fixture];
+            int stream = fixture;
+            league[fixture] = CompletableFuture.runAsync(() -> {
+                this.table.record(simulate(teams[0], teams[1], stream));
+                this.completedFixtures.incrementAndGet();
+            }, pool);
+        }
+        return CompletableFuture.allOf(league).thenCompose(done -> playKnockout(this.table.getRanking(), pool));
+    }
+
+    private CompletableFuture<String> playKnockout(int[] ranking, ForkJoinPool pool) {
+        CompletableFuture<Integer> finalist;
+        CompletableFuture<Integer> otherFinalist;
+        int stream = this.fixtures.length;                  // knockout streams follow the league's
+        if (ranking.length >= 4) {
+            finalist = CompletableFuture.supplyAsync(() -> knockout(ranking[0], ranking[3], stream + 1), pool);
+            otherFinalist = CompletableFuture.supplyAsync(() -> knockout(ranking[1], ranking[2], stream + 2), pool);
+        } else {
+            finalist = CompletableFuture.completedFuture(ranking[0]);
+            otherFinalist = CompletableFuture.completedFuture(ranking[1]);
+        }
+        return finalist.thenCombine(otherFinalist, (first, second) -> this.lineups[knockout(first, second, stream)].getTeamName());
+    }
+
+    /**
+     * Play a knockout fixture, @higherPlaced batting first and going through on an even split.
+     *
+     * @return int The team index of the winner
+     */
+    private int knockout(int higherPlaced, int lowerPlaced, int stream) {
+        int winner = simulate(higherPlaced, lowerPlaced, stream).getWinner();
+        return winner == FixtureResult.TIE ? higherPlaced : winner;
+    }
+
+    /**
+     * Simulate a fixture on the calling worker: each match reuses the same two Innings instances. A seeded tournament
+     * plays the fixture from stream @stream.
+     */
+    private FixtureResult simulate(int battingFirst, int chasing, int stream) {
+        FixtureResult result = new FixtureResult(battingFirst, chasing);
+        Innings first = new Innings(this.lineups[battingFirst], Integer.MAX_VALUE, this.overs);
+        Innings second = new Innings(this.lineups[chasing], 0, this.overs);
+        RandomGenerator random = this.seeded ? new StreamRandom(this.seed, stream) : ThreadLocalRandom.current();
+        for (int i = 0; i < this.simulations; i++) {
+            first.reset();
+            first.play(random);
+            second.reset(first.getCurrentTeamScore() + 1);
+            second.play(random);
+            result.record(first, second);
+        }
+        return result;
+    }
+
+    /**
+     * Get the league table as it stands, including only the fixtures completed so far.
+     *
+     * @return List<Standing> a new list, best team first: by points, then net run rate
+     */
+    public List<Standing> getStandings() {
+        return this.table.getStandings();
+    }
+
+    /**
+     * Get the number of league fixtures
+     *
+     * @return int The fixture count, teams x (teams - 1) / 2
+     */
+    public int getFixtureCount() {
+        return this.fixtures.length;
+    }
+
+    /**
+     * Get the number of league fixtures recorded in the table so far
+     *
+     * @return int The completed fixture count
+     */
+    public int getCompletedFixtures() {
+        return this.completedFixtures.get();
+    }
+}
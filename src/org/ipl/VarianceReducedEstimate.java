@@ -0,0 +1,77 @@
+package org.ipl;
+
+/**
+ * A win probability estimated with one of the SamplingModes, with its standard error and effective sample size.
+ * The effective sample size is the number of plain, independent innings that would give the same standard error:
+ * p(1 - p) / error^2. Dividing it by the innings actually played gives the gain of the mode.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class VarianceReducedEstimate {
+    private final SamplingMode mode;
+    private final double winProbability;
+    private final double standardError;
+    private final long innings;
+
+    VarianceReducedEstimate(SamplingMode mode, double winProbability, double standardError, long innings) {
+        this.mode = mode;
+        this.winProbability = winProbability;
+        this.standardError = standardError;
+        this.innings = innings;
+    }
+
+    /**
+     * Get the sampling mode the estimate was made with
+     *
+     * @return SamplingMode The mode
+     */
+    public SamplingMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Get the estimated win probability
+     *
+     * @return double The win probability
+     */
+    public double getWinProbability() {
+        return this.winProbability;
+    }
+
+    /**
+     * Get the standard error of the estimate
+     *
+     * @return double The standard error
+     */
+    public double getStandardError() {
+        return this.standardError;
+    }
+
+    /**
+     * Get the number of innings played
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.innings;
+    }
+
+    /**
+     * Get the number of plain innings that would give the same standard error
+     *
+     * @return double The effective sample size, infinite when the estimate has no error
+     */
+    public double getEffectiveSampleSize() {
+        double p = Math.min(1, Math.max(0, this.winProbability));
+        return this.standardError == 0 ? Double.POSITIVE_INFINITY : p * (1 - p) / (this.standardError * this.standardError);
+    }
+
+    @Override
+    public String toString() {
+        return this.mode + ": win " + this.winProbability + " +- " + this.standardError + " from " + this.innings
+                + " innings, effective sample size " + Math.round(getEffectiveSampleSize());
+    }
+}
@@ -0,0 +1,300 @@
+package org.ipl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo estimate of a chase's win probability with a variance reduction mode, refer to SamplingMode.java.
+ * <li>
+ * Antithetic: each ball is drawn by inverting the batsman's distribution with outcomes ordered from a wicket to a six,
+ * and the second innings of a pair inverts 1 - u. The win indicator only grows with runs, so the two innings of a pair
+ * are negatively correlated and their average varies less than two independent innings.
+ * Stratified: every sequence of outcomes of the first balls is a stratum whose probability is known exactly. Each
+ * stratum is continued from an InningsSnapshot by a number of innings proportional to that probability, so the
+ * estimate carries none of the variance between strata.
+ * Importance: per batting position an alias table tilted towards runs, and the innings weighted by the product of
+ * p / q over its balls, which keeps the estimate unbiased while many more innings reach a high target.
+ * </li>
+ * Unit i, an innings or an antithetic pair, draws from stream i of the seed, and the work is split at a fixed grain, so
+ * the estimate is the same on any number of threads.
+ * Thread safe :- the tables are immutable, every worker plays on its own Innings instance.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+final class VarianceReducedSimulation {
+
+    private static final int UNITS_PER_TASK = 4096;         // fixed, so the merge order does not depend on the pool
+    private static final int TILT_SCALE = 1 << 24;          // frequency total of a tilted alias table
+    private static final int[] ASCENDING = new int[]{BallOutcome.OUT, 0, 1, 2, 3, 4, 5, 6};  // worst to best outcome
+
+    private final Lineup lineup;
+    private final int targetScore;
+    private final int overs;
+    private final SamplingMode mode;
+
+    private double[][] cumulative;                          // antithetic: per position, P(outcome <= ASCENDING[k])
+    private AliasSampler[] tilted;                          // importance: per position
+    private double[][] likelihoodRatio;                     // importance: per position and outcome, p / q
+
+    private InningsSnapshot[] strata;                       // stratified: state after the fixed balls
+    private double[] stratumProbability;
+
+    VarianceReducedSimulation(Lineup lineup, int targetScore, int overs, SamplingMode mode) {
+        this.lineup = lineup;
+        this.targetScore = targetScore;
+        this.overs = overs;
+        this.mode = mode;
+        if (mode.getKind() == SamplingMode.ANTITHETIC) {
+            buildCumulative();
+        } else if (mode.getKind() == SamplingMode.IMPORTANCE) {
+            buildTilted(mode.getTilt());
+        } else if (mode.getKind() == SamplingMode.STRATIFIED) {
+            buildStrata(mode.getBalls());
+        }
+    }
+
+    private void buildCumulative() {
+        this.cumulative = new double[this.lineup.size()][BallOutcome.COUNT];
+        for (int position = 0; position < this.lineup.size(); position++) {
+            double[] probabilities = this.lineup.getOutcomeProbabilities(position);
+            double total = 0;
+            for (int k = 0; k < BallOutcome.COUNT; k++) {
+                total += probabilities[ASCENDING[k]];
+                this.cumulative[position][k] = total;
+            }
+            this.cumulative[position][BallOutcome.COUNT - 1] = 1;
+        }
+    }
+
+    private void buildTilted(double tilt) {
+        this.tilted = new AliasSampler[this.lineup.size()];
+        this.likelihoodRatio = new double[this.lineup.size()][BallOutcome.COUNT];
+        for (int position = 0; position < this.lineup.size(); position++) {
+            double[] probabilities = this.lineup.getOutcomeProbabilities(position);
+            double[] q = new double[BallOutcome.COUNT];
+            double sum = 0;
+            for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                q[outcome] = probabilities[outcome] * Math.exp(tilt * BallOutcome.RUNS[outcome]);
+                sum += q[outcome];
+            }
+            int[] frequencies = new int[BallOutcome.COUNT];
+            long total = 0;
+            for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                if (probabilities[outcome] > 0) {
+                    frequencies[outcome] = (int) Math.max(1, Math.round(TILT_SCALE * q[outcome] / sum));
+                    total += frequencies[outcome];
+                }
+            }
+            this.tilted[position] = new AliasSampler(frequencies);
+            for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+                if (frequencies[outcome] > 0) {
+                    this.likelihoodRatio[position][outcome] = probabilities[outcome] * total / frequencies[outcome];
+                }
+            }
+        }
+    }
+
+    private void buildStrata(int balls) {
+        List<InningsSnapshot> snapshots = new ArrayList<>();
+        List<Double> probabilities = new ArrayList<>();
+        enumerate(new Innings(this.lineup, this.targetScore, this.overs), balls, 1, snapshots, probabilities);
+        this.strata = snapshots.toArray(new InningsSnapshot[0]);
+        this.stratumProbability = new double[this.strata.length];
+        for (int h = 0; h < this.strata.length; h++) {
+            this.stratumProbability[h] = probabilities.get(h);
+        }
+    }
+
+    /**
+     * Every sequence of the next @balls outcomes from the state of @innings, with its probability. Sequences that end
+     * the innings stop early.
+     */
+    private void enumerate(Innings innings, int balls, double probability, List<InningsSnapshot> snapshots, List<Double> probabilities) {
+        if (balls == 0 || innings.getResult() >= 0) {
+            snapshots.add(innings.snapshot());
+            probabilities.add(probability);
+            return;
+        }
+        InningsSnapshot here = innings.snapshot();
+        double[] outcomeProbabilities = this.lineup.getOutcomeProbabilities(innings.getStriker());
+        for (int outcome = 0; outcome < BallOutcome.COUNT; outcome++) {
+            if (outcomeProbabilities[outcome] > 0) {
+                innings.restore(here);
+                innings.playBall(outcome);
+                enumerate(innings, balls - 1, probability * outcomeProbabilities[outcome], snapshots, probabilities);
+            }
+        }
+    }
+
+    /**
+     * Estimate the win probability from about @innings innings.
+     *
+     * @param innings The number of innings to play, rounded to whole pairs or strata. Must be greater than 0.
+     * @param seed    The root seed
+     * @param pool    The pool to run on
+     * @return VarianceReducedEstimate the estimate
+     */
+    VarianceReducedEstimate run(long innings, long seed, ForkJoinPool pool) {
+        if (this.mode.getKind() == SamplingMode.STRATIFIED) {
+            return runStratified(innings, seed, pool);
+        }
+        boolean paired = this.mode.getKind() == SamplingMode.ANTITHETIC;
+        long units = paired ? Math.max(1, innings / 2) : innings;
+        Sums sums = pool.invoke(new UnitTask(0, units, seed, new long[]{0}));
+        double mean = sums.sum[0] / units;
+        double error = Math.sqrt(sampleVariance(sums, 0, mean) / units);
+        return new VarianceReducedEstimate(this.mode, mean, error, paired ? 2 * units : units);
+    }
+
+    private VarianceReducedEstimate runStratified(long innings, long seed, ForkJoinPool pool) {
+        int count = this.strata.length;
+        long[] offsets = new long[count + 1];               // first unit of each stratum
+        for (int h = 0; h < count; h++) {
+            long size = this.strata[h].isFinished() ? 0 : Math.max(2, Math.round(innings * this.stratumProbability[h]));
+            offsets[h + 1] = offsets[h] + size;
+        }
+        Sums sums = pool.invoke(new UnitTask(0, offsets[count], seed, offsets));
+
+        double mean = 0;
+        double variance = 0;
+        for (int h = 0; h < count; h++) {
+            double p = this.stratumProbability[h];
+            long size = offsets[h + 1] - offsets[h];
+            if (size == 0) {
+                mean += this.strata[h].result == Innings.WON ? p : 0;
+            } else {
+                double stratumMean = sums.sum[h] / size;
+                mean += p * stratumMean;
+                variance += p * p * sampleVariance(sums, h, stratumMean) / size;
+            }
+        }
+        return new VarianceReducedEstimate(this.mode, mean, Math.sqrt(variance), offsets[count]);
+    }
+
+    private static double sampleVariance(Sums sums, int stratum, double mean) {
+        long n = sums.count[stratum];
+        return n < 2 ? 0 : Math.max(0, (sums.sumSquares[stratum] - n * mean * mean) / (n - 1));
+    }
+
+    /**
+     * Play one unit: an innings, or an antithetic pair averaged, and return its value.
+     */
+    private double playUnit(Innings innings, StreamRandom random, long unit, long seed, int stratum) {
+        switch (this.mode.getKind()) {
+            case SamplingMode.ANTITHETIC: {
+                innings.reset();
+                double first = playInverted(innings, random, false);
+                random.reseed(seed, unit);
+                innings.reset();
+                return (first + playInverted(innings, random, true)) / 2;
+            }
+            case SamplingMode.IMPORTANCE: {
+                innings.reset();
+                double weight = 1;
+                while (innings.getResult() < 0) {
+                    int striker = innings.getStriker();
+                    int outcome = this.tilted[striker].sample(random);
+                    weight *= this.likelihoodRatio[striker][outcome];
+                    innings.playBall(outcome);
+                }
+                return innings.getResult() == Innings.WON ? weight : 0;
+            }
+            case SamplingMode.STRATIFIED:
+                innings.restore(this.strata[stratum]);
+                return innings.play(random) == Innings.WON ? 1 : 0;
+            default:
+                innings.reset();
+                return innings.play(random) == Innings.WON ? 1 : 0;
+        }
+    }
+
+    private double playInverted(Innings innings, StreamRandom random, boolean antithetic) {
+        while (innings.getResult() < 0) {
+            double[] cumulative = this.cumulative[innings.getStriker()];
+            double u = random.nextDouble();
+            if (antithetic) {
+                u = 1 - u;
+            }
+            int k = 0;
+            while (k < BallOutcome.COUNT - 1 && u >= cumulative[k]) {
+                k++;
+            }
+            innings.playBall(ASCENDING[k]);
+        }
+        return innings.getResult() == Innings.WON ? 1 : 0;
+    }
+
+    /**
+     * Per stratum sum, sum of squares and count of unit values.
+     */
+    private static final class Sums {
+        final double[] sum;
+        final double[] sumSquares;
+        final long[] count;
+
+        Sums(int strata) {
+            this.sum = new double[strata];
+            this.sumSquares = new double[strata];
+            this.count = new long[strata];
+        }
+
+        Sums merge(Sums other) {
+            for (int h = 0; h < this.sum.length; h++) {
+                this.sum[h] += other.sum[h];
+                this.sumSquares[h] += other.sumSquares[h];
+                this.count[h] += other.count[h];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Plays units @first to @first + @units - 1, halving the range down to UNITS_PER_TASK.
+     */
+    private final class UnitTask extends RecursiveTask<Sums> {
+        static final long serialVersionUID = 1L;
+
+        private final long first;
+        private final long units;
+        private final long seed;
+        private final long[] offsets;                       // first unit of each stratum, then the total
+
+        UnitTask(long first, long units, long seed, long[] offsets) {
+            this.first = first;
+            this.units = units;
+            this.seed = seed;
+            this.offsets = offsets;
+        }
+
+        @Override
+        protected Sums compute() {
+            if (this.units > UNITS_PER_TASK) {
+                long half = this.units / 2;
+                UnitTask left = new UnitTask(this.first, half, this.seed, this.offsets);
+                left.fork();
+                Sums right = new UnitTask(this.first + half, this.units - half, this.seed, this.offsets).compute();
+                return left.join().merge(right);
+            }
+            int strata = Math.max(1, this.offsets.length - 1);
+            Sums sums = new Sums(strata);
+            Innings innings = new Innings(lineup, targetScore, overs);
+            StreamRandom random = new StreamRandom(this.seed, this.first);
+            int stratum = 0;
+            for (long unit = this.first; unit < this.first + this.units; unit++) {
+                while (stratum < strata - 1 && unit >= this.offsets[stratum + 1]) {
+                    stratum++;
+                }
+                random.reseed(this.seed, unit);
+                double value = playUnit(innings, random, unit, this.seed, stratum);
+                sums.sum[stratum] += value;
+                sums.sumSquares[stratum] += value * value;
+                sums.count[stratum]++;
+            }
+            return sums;
+        }
+    }
+}
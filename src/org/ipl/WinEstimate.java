@@ -0,0 +1,139 @@
+package org.ipl;
+
+/**
+ * A Monte Carlo estimate of the win probability of a chase with its confidence interval, as returned by
+ * MatchSimulator.estimate(). The interval is the Wilson score interval, which keeps its coverage close to the
+ * requested confidence even for chances near 0 or 1.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class WinEstimate {
+    private final SimulationResult result;
+    private final double confidence;
+    private final double lower;
+    private final double upper;
+
+    WinEstimate(SimulationResult result, double confidence) {
+        this.result = result;
+        this.confidence = confidence;
+        double z = zScore(confidence);
+        double n = result.getInnings();
+        double p = result.getWinProbability();
+        double shrink = 1 + z * z / n;
+        double center = (p + z * z / (2 * n)) / shrink;
+        double halfWidth = z / shrink * Math.sqrt(p * (1 - p) / n + z * z / (4 * n * n));
+        this.lower = Math.max(0, center - halfWidth);
+        this.upper = Math.min(1, center + halfWidth);
+    }
+
+    /**
+     * Get the fraction of innings won
+     *
+     * @return double The estimated win probability
+     */
+    public double getWinProbability() {
+        return this.result.getWinProbability();
+    }
+
+    /**
+     * Get the lower end of the confidence interval
+     *
+     * @return double The lower bound of the win probability
+     */
+    public double getLower() {
+        return this.lower;
+    }
+
+    /**
+     * Get the upper end of the confidence interval
+     *
+     * @return double The upper bound of the win probability
+     */
+    public double getUpper() {
+        return this.upper;
+    }
+
+    /**
+     * Get half the width of the confidence interval, the precision achieved
+     *
+     * @return double The half width
+     */
+    public double getHalfWidth() {
+        return (this.upper - this.lower) / 2;
+    }
+
+    /**
+     * Get the confidence level of the interval
+     *
+     * @return double The confidence, e.g. 0.99
+     */
+    public double getConfidence() {
+        return this.confidence;
+    }
+
+    /**
+     * Get the number of innings played
+     *
+     * @return long The innings count
+     */
+    public long getInnings() {
+        return this.result.getInnings();
+    }
+
+    /**
+     * Get the aggregate of every innings played for the estimate
+     *
+     * @return SimulationResult The aggregated result
+     */
+    public SimulationResult getResult() {
+        return this.result;
+    }
+
+    /**
+     * Number of standard deviations either side of the mean that hold @confidence of a normal distribution
+     *
+     * @param confidence The two-sided confidence, between 0 and 1
+     * @return double The z score, e.g. 2.5758 for 0.99
+     */
+    static double zScore(double confidence) {
+        return inverseNormal(0.5 + confidence / 2);
+    }
+
+    /**
+     * Inverse of the standard normal distribution function by Acklam's rational approximation, with a relative error
+     * below 1.15e-9 over (0, 1).
+     */
+    static double inverseNormal(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        } else if (p <= 1 - low) {
+            double q = p - 0.5;
+            double r = q * q;
+            return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                    / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+        }
+        double q = Math.sqrt(-2 * Math.log(1 - p));
+        return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "win " + getWinProbability() + " in [" + this.lower + ", " + this.upper + "] at " + this.confidence
+                + " confidence from " + getInnings() + " innings";
+    }
+}
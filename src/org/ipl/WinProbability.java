@@ -0,0 +1,53 @@
+package org.ipl;
+
+/**
+ * Win, tie and loss probabilities of the batting team for a chase.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class WinProbability {
+    private final double win;
+    private final double tie;
+
+    WinProbability(double win, double tie) {
+        this.win = win;
+        this.tie = tie;
+    }
+
+    /**
+     * Get the probability that the batting team reaches the target
+     *
+     * @return double The win probability
+     */
+    public double getWinProbability() {
+        return this.win;
+    }
+
+    /**
+     * Get the probability that the innings ends one run short of the target
+     *
+     * @return double The tie probability
+     */
+    public double getTieProbability() {
+        return this.tie;
+    }
+
+    /**
+     * Get the probability that the batting team loses, by running out of balls or of batsmen
+     *
+     * @return double The loss probability
+     */
+    public double getLossProbability() {
+        return Math.max(0, 1 - this.win - this.tie);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("win ").append(this.win).append(", tie ").append(this.tie).append(", loss ").append(getLossProbability());
+        return sb.toString();
+    }
+}
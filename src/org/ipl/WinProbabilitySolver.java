@@ -0,0 +1,247 @@
+package org.ipl;
+
+/**
+ * Exact win, tie and loss probabilities of a chase, by dynamic programming over the innings Markov chain.
+ * The outcome of Match.startMatch() from any ball depends only on the balls left, the runs still needed and the
+ * batting positions of the striker and the non-striker. Because a new batsman always comes in at the next batting
+ * position, the wickets fallen equal the higher of the two positions minus one, so the pair also encodes the wickets.
+ * The solver fills that state space one ball at a time, starting from the last ball, using the per player outcome
+ * probabilities and the strike rules of Match.rotateStrike() and Match.replaceBatsman().
+ * Cost is at most balls x runs x players^2 x 8 multiply-adds, less the states the starting state can not reach:
+ * well under a millisecond for a 4 over chase, milliseconds for 20 overs, against seconds for a Monte Carlo estimate of
+ * similar precision.
+ * Thread safe :- the solver is immutable, every call works on its own layers.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class WinProbabilitySolver {
+
+    private final Lineup lineup;
+    private final int players;
+
+    private WinProbabilitySolver(Lineup lineup) {
+        this.lineup = lineup;
+        this.players = lineup.size();
+    }
+
+    /**
+     * Returns the instance of WinProbabilitySolver class.
+     *
+     * @param battingTeam This represent the batting team. Team must have at least two players
+     * @return WinProbabilitySolver An instance of WinProbabilitySolver class
+     * @throws IllegalArgumentException
+     */
+    public static WinProbabilitySolver getInstance(Team battingTeam) throws IllegalArgumentException {
+        return getInstance(battingTeam.getLineup());
+    }
+
+    /**
+     * Returns the instance of WinProbabilitySolver class for a batting order snapshot.
+     *
+     * @param lineup The batting order. Must have at least two players
+     * @return WinProbabilitySolver An instance of WinProbabilitySolver class
+     * @throws IllegalArgumentException
+     */
+    static WinProbabilitySolver getInstance(Lineup lineup) throws IllegalArgumentException {
+        if (lineup.size() < 2) {
+            throw new IllegalArgumentException(lineup.getTeamName() + " " + CustomExceptionMessages.Has_Less_Than_Two_Players);
+        }
+        return new WinProbabilitySolver(lineup);
+    }
+
+    /**
+     * Solve a chase from the first ball with the openers at the crease.
+     *
+     * @param targetScore This is the target score set by the opponent team
+     * @param overs       The numbers of overs. Must be greater than 0.
+     * @return WinProbability the exact probabilities
+     * @throws IllegalArgumentException
+     */
+    public WinProbability solve(int targetScore, int overs) throws IllegalArgumentException {
+        if (targetScore < 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Negative.toString());
+        } else if (overs <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        }
+        return solve(overs * 6, targetScore, 0, 1);
+    }
+
+    /**
+     * Solve a chase from any state of the innings. Batsmen at positions above both @striker and @nonStriker are still
+     * to come in, in batting order; positions below them are out.
+     *
+     * @param ballsLeft  The balls left in the innings, greater than 0. Overs end when this is a multiple of 6.
+     * @param runsNeeded The runs still needed to reach the target
+     * @param striker    The batting position on strike
+     * @param nonStriker The batting position at the other end
+     * @return WinProbability the exact probabilities
+     */
+    WinProbability solve(int ballsLeft, int runsNeeded, int striker, int nonStriker) {
+        int pairs = this.players * this.players;
+        int states = (runsNeeded + 1) * pairs;
+        double[] win = new double[states];
+        double[] tie = new double[states];
+        double[] nextWin = new double[states];
+        double[] nextTie = new double[states];
+
+        // No balls left: a tie when exactly one run short, a loss otherwise.
+        if (runsNeeded >= 1) {
+            for (int pair = 0; pair < pairs; pair++) {
+                tie[pairs + pair] = 1;
+            }
+        }
+
+        int firstNewBatsman = Math.max(striker, nonStriker) + 1;
+        for (int balls = 1; balls <= ballsLeft; balls++) {
+            // Skip states the requested one can not reach: at most 6 runs and one wicket per ball bowled.
+            int bowled = ballsLeft - balls;
+            int minRuns = Math.max(0, runsNeeded - 6 * bowled);
+            int positions = (int) Math.min(this.players, (long) firstNewBatsman + bowled);
+            step(balls, minRuns, runsNeeded, positions, win, tie, nextWin, nextTie);
+
+            double[] swap = win;
+            win = nextWin;
+            nextWin = swap;
+            swap = tie;
+            tie = nextTie;
+            nextTie = swap;
+        }
+
+        int state = runsNeeded * pairs + striker * this.players + nonStriker;
+        return new WinProbability(win[state], tie[state]);
+    }
+
+    /**
+     * Solve every state with up to @ballsLeft balls left and up to @maxRuns runs needed, keeping every layer, so that
+     * later states of the same innings are answered by lookup. Layer b holds the values with b balls left at index
+     * runs needed * players^2 + striker * players + non-striker.
+     *
+     * @param ballsLeft The most balls left, not negative
+     * @param maxRuns   The most runs needed, not negative
+     * @param win       Filled with ballsLeft + 1 layers of win probabilities
+     * @param tie       Filled with ballsLeft + 1 layers of tie probabilities
+     */
+    void solveLayers(int ballsLeft, int maxRuns, double[][] win, double[][] tie) {
+        int pairs = this.players * this.players;
+        for (int balls = 0; balls <= ballsLeft; balls++) {
+            win[balls] = new double[(maxRuns + 1) * pairs];
+            tie[balls] = new double[(maxRuns + 1) * pairs];
+        }
+        if (maxRuns >= 1) {
+            for (int pair = 0; pair < pairs; pair++) {
+                tie[0][pairs + pair] = 1;                   // no balls left, one run short
+            }
+        }
+        for (int balls = 1; balls <= ballsLeft; balls++) {
+            step(balls, 0, maxRuns, this.players, win[balls - 1], tie[balls - 1], win[balls], tie[balls]);
+        }
+    }
+
+    /**
+     * Solve every chase from the first ball with up to @maxTarget runs to get and @maxOvers overs, in one pass.
+     * The values with b balls left do not depend on how long the innings is, so the layer the solver reaches after
+     * 6 x overs balls answers, at the openers' state, every target for that many overs. One pass over 6 x @maxOvers
+     * layers of @maxTarget runs fills the whole grid, about the cost of solving its largest cell alone.
+     *
+     * @param maxTarget The highest target score, targets 1 to @maxTarget are solved. Must be greater than 0.
+     * @param maxOvers  The highest number of overs, overs 1 to @maxOvers are solved. Must be greater than 0.
+     * @return WinProbabilitySurface the grid of exact probabilities
+     * @throws IllegalArgumentException
+     */
+    public WinProbabilitySurface sweep(int maxTarget, int maxOvers) throws IllegalArgumentException {
+        if (maxTarget <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.Target_Score_Not_Positive.toString());
+        } else if (maxOvers <= 0) {
+            throw new IllegalArgumentException(CustomExceptionMessages.No_Match_With_Zero_Overs.toString());
+        }
+        int pairs = this.players * this.players;
+        int states = (maxTarget + 1) * pairs;
+        double[] win = new double[states];
+        double[] tie = new double[states];
+        double[] nextWin = new double[states];
+        double[] nextTie = new double[states];
+        for (int pair = 0; pair < pairs; pair++) {
+            tie[pairs + pair] = 1;                          // no balls left, one run short
+        }
+
+        double[] winGrid = new double[maxOvers * maxTarget];
+        double[] tieGrid = new double[maxOvers * maxTarget];
+        int openers = 1;                                    // striker at position 0, non-striker at position 1
+        for (int balls = 1; balls <= maxOvers * 6; balls++) {
+            step(balls, 0, maxTarget, this.players, win, tie, nextWin, nextTie);
+            double[] swap = win;
+            win = nextWin;
+            nextWin = swap;
+            swap = tie;
+            tie = nextTie;
+            nextTie = swap;
+
+            if (balls % 6 == 0) {
+                int row = (balls / 6 - 1) * maxTarget;
+                for (int target = 1; target <= maxTarget; target++) {
+                    winGrid[row + target - 1] = win[target * pairs + openers];
+                    tieGrid[row + target - 1] = tie[target * pairs + openers];
+                }
+            }
+        }
+        return new WinProbabilitySurface(maxTarget, maxOvers, winGrid, tieGrid);
+    }
+
+    /**
+     * Fill @nextWin and @nextTie, the values with @balls balls left, from @win and @tie, the values with one ball
+     * fewer, for runs needed from @minRuns to @maxRuns and batting positions below @positions.
+     */
+    private void step(int balls, int minRuns, int maxRuns, int positions, double[] win, double[] tie, double[] nextWin, double[] nextTie) {
+        int pairs = this.players * this.players;
+        boolean overEnds = (balls - 1) % 6 == 0;
+        for (int runs = minRuns; runs <= maxRuns; runs++) {
+            for (int onStrike = 0; onStrike < positions; onStrike++) {
+                double[] probabilities = this.lineup.getOutcomeProbabilities(onStrike);
+                for (int other = 0; other < positions; other++) {
+                    if (other == onStrike) {
+                        continue;
+                    }
+                    double w = 0;
+                    double t = 0;
+
+                    for (int outcome = 0; outcome < BallOutcome.OUT; outcome++) {
+                        double p = probabilities[outcome];
+                        if (p == 0) {
+                            continue;
+                        }
+                        int left = runs - BallOutcome.RUNS[outcome];
+                        if (left <= 0) {
+                            w += p;                                 // target reached
+                            continue;
+                        }
+                        boolean rotate = ((outcome & 1) == 1) != overEnds;
+                        int state = rotate ? left * pairs + other * this.players + onStrike
+                                : left * pairs + onStrike * this.players + other;
+                        w += p * win[state];
+                        t += p * tie[state];
+                    }
+
+                    double p = probabilities[BallOutcome.OUT];
+                    int incoming = Math.max(onStrike, other) + 1;
+                    if (p != 0 && incoming < this.players) {    // all out is a loss
+                        if (runs <= 0) {
+                            w += p;
+                        } else {
+                            // The new batsman takes strike at the dismissed batsman's end.
+                            int state = overEnds ? runs * pairs + other * this.players + incoming
+                                    : runs * pairs + incoming * this.players + other;
+                            w += p * win[state];
+                            t += p * tie[state];
+                        }
+                    }
+
+                    int state = runs * pairs + onStrike * this.players + other;
+                    nextWin[state] = w;
+                    nextTie[state] = t;
+                }
+            }
+        }
+    }
+}
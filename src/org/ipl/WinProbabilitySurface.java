@@ -0,0 +1,131 @@
+package org.ipl;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Exact win and tie probabilities of one batting order for every chase of targets 1 to getMaxTarget() in overs 1 to
+ * getMaxOvers(), as computed by WinProbabilitySolver.sweep().
+ * The grid is kept as two flat row-major matrices, one row per number of overs and one column per target.
+ * Immutable.
+ *
+ * @author Vishal
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class WinProbabilitySurface {
+    private final int maxTarget;
+    private final int maxOvers;
+    private final double[] win;                             // (overs - 1) * maxTarget + target - 1
+    private final double[] tie;
+
+    WinProbabilitySurface(int maxTarget, int maxOvers, double[] win, double[] tie) {
+        this.maxTarget = maxTarget;
+        this.maxOvers = maxOvers;
+        this.win = win;
+        this.tie = tie;
+    }
+
+    /**
+     * Get the highest target in the grid
+     *
+     * @return int The highest target score
+     */
+    public int getMaxTarget() {
+        return this.maxTarget;
+    }
+
+    /**
+     * Get the highest number of overs in the grid
+     *
+     * @return int The highest number of overs
+     */
+    public int getMaxOvers() {
+        return this.maxOvers;
+    }
+
+    /**
+     * Get the probabilities of one chase
+     *
+     * @param targetScore The target score, from 1 to getMaxTarget()
+     * @param overs       The numbers of overs, from 1 to getMaxOvers()
+     * @return WinProbability the exact probabilities, the same as WinProbabilitySolver.solve(targetScore, overs)
+     * @throws IndexOutOfBoundsException if the chase is outside the grid
+     */
+    public WinProbability get(int targetScore, int overs) {
+        int cell = cell(targetScore, overs);
+        return new WinProbability(this.win[cell], this.tie[cell]);
+    }
+
+    /**
+     * Get the win probability of one chase
+     *
+     * @param targetScore The target score, from 1 to getMaxTarget()
+     * @param overs       The numbers of overs, from 1 to getMaxOvers()
+     * @return double The win probability
+     * @throws IndexOutOfBoundsException if the chase is outside the grid
+     */
+    public double getWinProbability(int targetScore, int overs) {
+        return this.win[cell(targetScore, overs)];
+    }
+
+    /**
+     * Get the tie probability of one chase
+     *
+     * @param targetScore The target score, from 1 to getMaxTarget()
+     * @param overs       The numbers of overs, from 1 to getMaxOvers()
+     * @return double The tie probability
+     * @throws IndexOutOfBoundsException if the chase is outside the grid
+     */
+    public double getTieProbability(int targetScore, int overs) {
+        return this.tie[cell(targetScore, overs)];
+    }
+
+    /**
+     * Get the win probabilities as a matrix
+     *
+     * @return double[] a new row-major array, index (overs - 1) * getMaxTarget() + targetScore - 1
+     */
+    public double[] getWinMatrix() {
+        return this.win.clone();
+    }
+
+    /**
+     * Get the tie probabilities as a matrix
+     *
+     * @return double[] a new row-major array, index (overs - 1) * getMaxTarget() + targetScore - 1
+     */
+    public double[] getTieMatrix() {
+        return this.tie.clone();
+    }
+
+    /**
+     * Write the win probabilities as CSV: a header row of targets, then one row per number of overs starting with the
+     * overs.
+     *
+     * @param out Where to write, e.g. a StringBuilder or a Writer
+     * @throws IOException if @out fails
+     */
+    public void writeWinCsv(Appendable out) throws IOException {
+        out.append("overs");
+        for (int target = 1; target <= this.maxTarget; target++) {
+            out.append(',').append(Integer.toString(target));
+        }
+        out.append('\n');
+        for (int overs = 1; overs <= this.maxOvers; overs++) {
+            out.append(Integer.toString(overs));
+            int row = (overs - 1) * this.maxTarget;
+            for (int target = 0; target < this.maxTarget; target++) {
+                out.append(',').append(String.format(Locale.ROOT, "%.6f", this.win[row + target]));
+            }
+            out.append('\n');
+        }
+    }
+
+    private int cell(int targetScore, int overs) {
+        if (targetScore < 1 || targetScore > this.maxTarget || overs < 1 || overs > this.maxOvers) {
+            throw new IndexOutOfBoundsException(targetScore + " runs in " + overs + " overs");
+        }
+        return (overs - 1) * this.maxTarget + targetScore - 1;
+    }
+}